@@ -15,6 +15,7 @@
  */
 package io.interlockledger.iltags;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import io.interlockledger.iltags.io.ILTagDataReader;
@@ -24,6 +25,13 @@ import io.interlockledger.iltags.io.ILTagDataWriter;
  * This class implements the standard byte array tag but can also be used to
  * implement other variants.
  * 
+ * <p>
+ * Since 2026.10.18, this tag may also hold its value as a read-only ByteBuffer
+ * view. When the slice mode is enabled, the value is deserialized by
+ * ILTagDataReader.readSlice(long), thus readers backed by memory will not copy
+ * the payload.
+ * </p>
+ * 
  * @author Fabio Jun Takada Chino
  * @since 2019.06.12
  */
@@ -31,6 +39,10 @@ public class ILByteArrayTag extends ILTag {
 
 	private byte[] value;
 
+	private ByteBuffer slice;
+
+	private boolean sliceMode;
+
 	public ILByteArrayTag() {
 		this(ILStandardTags.TAG_BYTE_ARRAY.ordinal());
 	}
@@ -39,19 +51,72 @@ public class ILByteArrayTag extends ILTag {
 		super(id);
 	}
 
+	/**
+	 * Creates a new instance of this class.
+	 * 
+	 * @param id        The tag id.
+	 * @param sliceMode The initial slice mode.
+	 * @since 2026.10.18
+	 */
+	public ILByteArrayTag(long id, boolean sliceMode) {
+		super(id);
+		this.sliceMode = sliceMode;
+	}
+
 	@Override
 	public void deserializeValue(ILTagFactory factory, long tagSize, ILTagDataReader in) throws ILTagException {
-		this.value = readRawBytes(tagSize, in);
+		if (this.sliceMode) {
+			this.setValue(readRawSlice(tagSize, in));
+		} else {
+			this.setValue(readRawBytes(tagSize, in));
+		}
 	}
 
+	/**
+	 * Returns the value as a byte array. If the value is held as a view, it is
+	 * copied into a new byte array that replaces the view.
+	 * 
+	 * @return The value or null if it is not set.
+	 */
 	public byte[] getValue() {
+		if ((this.value == null) && (this.slice != null)) {
+			byte[] v = new byte[this.slice.remaining()];
+			this.slice.duplicate().get(v);
+			this.value = v;
+			this.slice = null;
+		}
 		return value;
 	}
 
+	/**
+	 * Returns a read-only view of the value. It never copies the value.
+	 * 
+	 * @return The view of the value or null if it is not set.
+	 * @since 2026.10.18
+	 */
+	public ByteBuffer getValueBuffer() {
+		if (this.slice != null) {
+			return this.slice.duplicate();
+		} else if (this.value != null) {
+			return ByteBuffer.wrap(this.value).asReadOnlyBuffer();
+		} else {
+			return null;
+		}
+	}
+
 	@Override
 	protected int getValueHashCode() {
-		if (this.getValue() != null) {
-			return Arrays.hashCode(this.getValue());
+		if (this.value != null) {
+			return Arrays.hashCode(this.value);
+		}
+		ByteBuffer v = this.getValueBuffer();
+		if (v != null) {
+			// Same as Arrays.hashCode(byte[])
+			int result = 1;
+			while (v.hasRemaining()) {
+				result = 31 * result + v.get();
+			}
+			return result;
 		} else {
 			return 0;
 		}
@@ -62,15 +127,35 @@ public class ILByteArrayTag extends ILTag {
 
 		if (value != null) {
 			return this.value.length;
+		} else if (slice != null) {
+			return this.slice.remaining();
 		} else {
 			throw new IllegalStateException("Value not set.");
 		}
 	}
 
+	/**
+	 * Verifies if the value will be deserialized as a view.
+	 * 
+	 * @return true if the slice mode is enabled or false otherwise.
+	 * @since 2026.10.18
+	 */
+	public boolean isSliceMode() {
+		return this.sliceMode;
+	}
+
 	@Override
 	protected boolean sameValue(ILTag other) {
 		ILByteArrayTag t = (ILByteArrayTag) other;
-		return Arrays.equals(this.getValue(), t.getValue());
+		if ((this.value != null) && (t.value != null)) {
+			return Arrays.equals(this.value, t.value);
+		}
+		ByteBuffer a = this.getValueBuffer();
+		ByteBuffer b = t.getValueBuffer();
+		if ((a == null) || (b == null)) {
+			return a == b;
+		}
+		return a.equals(b);
 	}
 
 	@Override
@@ -78,6 +163,8 @@ public class ILByteArrayTag extends ILTag {
 
 		if (value != null) {
 			out.writeBytes(this.value);
+		} else if (slice != null) {
+			out.writeBytes(this.slice.duplicate());
 		} else {
 			throw new IllegalStateException("Value not set.");
 		}
@@ -85,5 +172,34 @@ public class ILByteArrayTag extends ILTag {
 
 	public void setValue(byte[] value) {
 		this.value = value;
+		this.slice = null;
+	}
+
+	/**
+	 * Sets the value as a view. The remaining bytes of value will be used as the
+	 * value of this tag, and the value is not copied.
+	 * 
+	 * @param value The new value or null to clear it.
+	 * @since 2026.10.18
+	 */
+	public void setValue(ByteBuffer value) {
+		this.value = null;
+		if (value != null) {
+			this.slice = value.slice().asReadOnlyBuffer();
+		} else {
+			this.slice = null;
+		}
+	}
+
+	/**
+	 * Sets the slice mode. When enabled, the value will be deserialized as a
+	 * read-only view of the bytes of the reader. Such view remains valid only
+	 * while the memory that backs the reader is not changed.
+	 * 
+	 * @param sliceMode The new slice mode.
+	 * @since 2026.10.18
+	 */
+	public void setSliceMode(boolean sliceMode) {
+		this.sliceMode = sliceMode;
 	}
 }
@@ -0,0 +1,380 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags;
+
+import java.util.List;
+
+import io.interlockledger.iltags.ilint.ILIntCodec;
+import io.interlockledger.iltags.ilint.ILIntException;
+import io.interlockledger.iltags.ilint.ILSignedIntCodec;
+import io.interlockledger.iltags.io.ILTagDataReader;
+import io.interlockledger.iltags.io.ILTagDataWriter;
+
+/**
+ * This class implements a delta encoded ILInt array. It is intended to hold
+ * sorted sequences like offsets and timestamps, where the difference between
+ * consecutive entries is much smaller than the entries themselves.
+ * 
+ * <p>
+ * The value is encoded as the number of entries (ILInt), the checkpoint
+ * interval N (ILInt), the checkpoint table and the entries. Every N-th entry,
+ * starting with the first, is a checkpoint encoded as an absolute ILInt. All
+ * other entries are encoded as the signed ILInt of the difference from the
+ * previous entry. The checkpoint table holds the offset of each checkpoint but
+ * the first, relative to the beginning of the entries, as 32-bit big endian
+ * integers, thus any checkpoint can be located without scanning the entries
+ * before it.
+ * </p>
+ * 
+ * <p>
+ * When deserialized, this tag keeps the encoded value and decodes the entries
+ * on demand. The methods get(int), decodeRange(int, long[], int, int) and
+ * toArray() decode directly from the encoded value starting at the nearest
+ * checkpoint, without boxing. The first call to getValue() converts the
+ * entries into the list, which becomes the only representation of the value
+ * from that point on.
+ * </p>
+ * 
+ * <p>
+ * Since there is no standard tag for this type, it must be created with an
+ * application specific id by a custom ILTagFactory.
+ * </p>
+ * 
+ * @since 2026.10.18
+ */
+public class ILDeltaILIntArrayTag extends ILILIntArrayTag {
+
+	/**
+	 * The default checkpoint interval.
+	 */
+	public static final int DEFAULT_CHECKPOINT_INTERVAL = 64;
+
+	// Size of each entry of the checkpoint table
+	private static final int CHECKPOINT_ENTRY_SIZE = 4;
+
+	private int checkpointInterval;
+
+	// Encoded value or null if the list holds the value
+	private byte[] encoded;
+
+	// Number of entries inside encoded
+	private int encodedCount;
+
+	// Offset of the checkpoint table inside encoded
+	private int tableOffset;
+
+	// Offset of the first entry inside encoded
+	private int entriesOffset;
+
+	public ILDeltaILIntArrayTag(long id) {
+		this(id, DEFAULT_CHECKPOINT_INTERVAL);
+	}
+
+	/**
+	 * Creates a new instance of this class.
+	 * 
+	 * @param id                 The tag id.
+	 * @param checkpointInterval The checkpoint interval used by the serialization.
+	 * @throws IllegalArgumentException If checkpointInterval is not positive.
+	 */
+	public ILDeltaILIntArrayTag(long id, int checkpointInterval) {
+		super(id);
+		this.setCheckpointInterval(checkpointInterval);
+	}
+
+	/**
+	 * Decodes a range of entries directly into an array. If the tag holds an
+	 * encoded value, the decoding starts at the checkpoint that precedes the first
+	 * entry, thus only the entries of the last checkpoint interval before it are
+	 * visited.
+	 * 
+	 * @param from   The index of the first entry.
+	 * @param dst    The array that will receive the entries.
+	 * @param dstOff The offset of the first entry inside dst.
+	 * @param count  The number of entries to decode.
+	 * @throws IndexOutOfBoundsException If the range is not valid.
+	 */
+	public void decodeRange(int from, long[] dst, int dstOff, int count) {
+
+		if ((from < 0) || (count < 0) || (from > this.size() - count) || (dstOff < 0)
+				|| (dstOff > dst.length - count)) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (this.encoded == null) {
+			List<Long> value = super.getValue();
+			for (int i = 0; i < count; i++) {
+				dst[dstOff + i] = value.get(from + i);
+			}
+			return;
+		}
+		if (count == 0) {
+			return;
+		}
+		int checkpoint = from / this.checkpointInterval;
+		int p = this.entriesOffset + this.getCheckpointOffset(checkpoint);
+		int end = from + count;
+		long prev = 0;
+		try {
+			for (int i = checkpoint * this.checkpointInterval; i < end; i++) {
+				long v = ILIntCodec.decode(this.encoded, p, this.encoded.length);
+				if (i % this.checkpointInterval == 0) {
+					prev = v;
+				} else {
+					prev += ILSignedIntCodec.toSigned(v);
+				}
+				if (i >= from) {
+					dst[dstOff + i - from] = prev;
+				}
+				p += ILIntCodec.encodedSizeFromHeader(this.encoded[p]);
+			}
+		} catch (ILIntException e) {
+			// The encoded value is validated by deserializeValue()
+			throw new IllegalStateException(e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public void deserializeValue(ILTagFactory factory, long tagSize, ILTagDataReader in) throws ILTagException {
+
+		byte[] raw = this.readRawBytes(tagSize, in);
+		try {
+			int p = 0;
+			long count = ILIntCodec.decode(raw, p, raw.length);
+			p += ILIntCodec.encodedSizeFromHeader(raw[p]);
+			long interval = ILIntCodec.decode(raw, p, raw.length);
+			p += ILIntCodec.encodedSizeFromHeader(raw[p]);
+			if ((count < 0) || (count > Integer.MAX_VALUE)) {
+				throw new ILTagException("Unsupported number of entries.");
+			}
+			if ((interval <= 0) || (interval > Integer.MAX_VALUE)) {
+				throw new ILTagException("Invalid checkpoint interval.");
+			}
+			long checkpoints = getCheckpointCount(count, interval);
+			long tableSize = (checkpoints > 0) ? (checkpoints - 1) * CHECKPOINT_ENTRY_SIZE : 0;
+			if (tableSize > raw.length - p) {
+				throw new ILTagException("Invalid checkpoint table.");
+			}
+			int tableOffset = p;
+			int entriesOffset = (int) (p + tableSize);
+			// Validate all entries and the offsets of the checkpoints
+			int q = entriesOffset;
+			for (int k = 0; k < checkpoints; k++) {
+				if ((k > 0) && (getInt(raw, tableOffset + (k - 1) * CHECKPOINT_ENTRY_SIZE) != q - entriesOffset)) {
+					throw new ILTagException("Invalid checkpoint table.");
+				}
+				q = ILIntCodec.validate(raw, q, raw.length, Math.min(interval, count - k * interval));
+			}
+			if (q != raw.length) {
+				throw new ILTagException("Invalid delta array.");
+			}
+			super.getValue().clear();
+			this.checkpointInterval = (int) interval;
+			this.encoded = raw;
+			this.encodedCount = (int) count;
+			this.tableOffset = tableOffset;
+			this.entriesOffset = entriesOffset;
+		} catch (ILIntException e) {
+			throw new ILTagException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Returns one entry. If the tag holds an encoded value, the entry is decoded
+	 * starting at the nearest checkpoint.
+	 * 
+	 * @param index The index of the entry.
+	 * @return The value of the entry.
+	 * @throws IndexOutOfBoundsException If index is not valid.
+	 */
+	public long get(int index) {
+
+		if ((index < 0) || (index >= this.size())) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (this.encoded == null) {
+			return super.getValue().get(index);
+		}
+		int checkpoint = index / this.checkpointInterval;
+		int p = this.entriesOffset + this.getCheckpointOffset(checkpoint);
+		try {
+			long v = ILIntCodec.decode(this.encoded, p, this.encoded.length);
+			for (int i = checkpoint * this.checkpointInterval + 1; i <= index; i++) {
+				p += ILIntCodec.encodedSizeFromHeader(this.encoded[p]);
+				v += ILSignedIntCodec.toSigned(ILIntCodec.decode(this.encoded, p, this.encoded.length));
+			}
+			return v;
+		} catch (ILIntException e) {
+			// The encoded value is validated by deserializeValue()
+			throw new IllegalStateException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Returns the checkpoint interval.
+	 * 
+	 * @return The number of entries between checkpoints.
+	 */
+	public int getCheckpointInterval() {
+		return checkpointInterval;
+	}
+
+	/**
+	 * Returns the entries as a list. If the tag holds an encoded value, it is
+	 * decoded into the list and discarded.
+	 */
+	@Override
+	public List<Long> getValue() {
+		if (this.encoded != null) {
+			long[] values = this.toArray();
+			this.encoded = null;
+			super.setValue(values);
+		}
+		return super.getValue();
+	}
+
+	@Override
+	public long getValueSize() {
+
+		if (this.encoded != null) {
+			return this.encoded.length;
+		}
+		List<Long> value = super.getValue();
+		long size = ILIntCodec.getEncodedSize(value.size()) + ILIntCodec.getEncodedSize(this.checkpointInterval);
+		long checkpoints = getCheckpointCount(value.size(), this.checkpointInterval);
+		if (checkpoints > 0) {
+			size += (checkpoints - 1) * CHECKPOINT_ENTRY_SIZE;
+		}
+		long prev = 0;
+		int i = 0;
+		for (Long v : value) {
+			size += this.getEntrySize(i, v, prev);
+			prev = v;
+			i++;
+		}
+		return size;
+	}
+
+	@Override
+	protected void serializeValue(ILTagDataWriter out) throws ILTagException {
+
+		if (this.encoded != null) {
+			out.writeBytes(this.encoded);
+			return;
+		}
+		List<Long> value = super.getValue();
+		out.writeILInt(value.size());
+		out.writeILInt(this.checkpointInterval);
+		// Checkpoint table
+		long offset = 0;
+		long prev = 0;
+		int i = 0;
+		for (Long v : value) {
+			if ((i > 0) && (i % this.checkpointInterval == 0)) {
+				if (offset > Integer.MAX_VALUE) {
+					throw new ILTagException("The value is too large for this implementation.");
+				}
+				out.writeInt((int) offset);
+			}
+			offset += this.getEntrySize(i, v, prev);
+			prev = v;
+			i++;
+		}
+		// Entries
+		prev = 0;
+		i = 0;
+		for (Long v : value) {
+			if (i % this.checkpointInterval == 0) {
+				out.writeILInt(v);
+			} else {
+				out.writeILInt(ILSignedIntCodec.toUnsigned(v - prev));
+			}
+			prev = v;
+			i++;
+		}
+	}
+
+	/**
+	 * Sets the checkpoint interval used by the serialization. If the tag holds an
+	 * encoded value with a different interval, it is decoded into the list first.
+	 * 
+	 * @param checkpointInterval The number of entries between checkpoints.
+	 * @throws IllegalArgumentException If checkpointInterval is not positive.
+	 */
+	public void setCheckpointInterval(int checkpointInterval) {
+		if (checkpointInterval <= 0) {
+			throw new IllegalArgumentException("The checkpoint interval must be positive.");
+		}
+		if ((this.encoded != null) && (this.checkpointInterval != checkpointInterval)) {
+			this.getValue();
+		}
+		this.checkpointInterval = checkpointInterval;
+	}
+
+	@Override
+	public void setValue(long[] values) {
+		this.encoded = null;
+		super.setValue(values);
+	}
+
+	/**
+	 * Returns the number of entries.
+	 * 
+	 * @return The number of entries.
+	 */
+	public int size() {
+		if (this.encoded != null) {
+			return this.encodedCount;
+		}
+		return super.getValue().size();
+	}
+
+	@Override
+	public long[] toArray() {
+		long[] ret = new long[this.size()];
+		this.decodeRange(0, ret, 0, ret.length);
+		return ret;
+	}
+
+	private static long getCheckpointCount(long count, long interval) {
+		return (count == 0) ? 0 : ((count - 1) / interval) + 1;
+	}
+
+	private static int getInt(byte[] b, int off) {
+		return (b[off] << 24) | ((b[off + 1] & 0xFF) << 16) | ((b[off + 2] & 0xFF) << 8) | (b[off + 3] & 0xFF);
+	}
+
+	/**
+	 * Returns the offset of a checkpoint relative to the beginning of the
+	 * entries.
+	 * 
+	 * @param checkpoint The index of the checkpoint.
+	 * @return The offset of the checkpoint.
+	 */
+	private int getCheckpointOffset(int checkpoint) {
+		if (checkpoint == 0) {
+			return 0;
+		}
+		return getInt(this.encoded, this.tableOffset + (checkpoint - 1) * CHECKPOINT_ENTRY_SIZE);
+	}
+
+	private int getEntrySize(int index, long v, long prev) {
+		if (index % this.checkpointInterval == 0) {
+			return ILIntCodec.getEncodedSize(v);
+		} else {
+			return ILSignedIntCodec.getEncodedSize(v - prev);
+		}
+	}
+}
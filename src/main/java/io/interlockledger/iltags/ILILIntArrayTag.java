@@ -97,4 +97,32 @@ public class ILILIntArrayTag extends ILTag {
 			out.writeILInt(v);
 		}
 	}
+
+	/**
+	 * Replaces the contents of this tag with the given values.
+	 * 
+	 * @param values The new values.
+	 * @since 2026.10.18
+	 */
+	public void setValue(long[] values) {
+		this.value.clear();
+		this.value.ensureCapacity(values.length);
+		for (long v : values) {
+			this.value.add(v);
+		}
+	}
+
+	/**
+	 * Returns a copy of the values of this tag as an array.
+	 * 
+	 * @return The values.
+	 * @since 2026.10.18
+	 */
+	public long[] toArray() {
+		long[] ret = new long[this.value.size()];
+		for (int i = 0; i < ret.length; i++) {
+			ret[i] = this.value.get(i);
+		}
+		return ret;
+	}
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags;
+
+import java.util.List;
+
+import io.interlockledger.iltags.ilint.ILIntCodec;
+import io.interlockledger.iltags.ilint.ILSignedIntCodec;
+import io.interlockledger.iltags.io.ILTagDataReader;
+import io.interlockledger.iltags.io.ILTagDataWriter;
+
+/**
+ * This class implements an array of signed ILInts. The number of entries is
+ * encoded as an ILInt followed by each entry encoded as a signed ILInt. Since
+ * there is no standard tag for this type, it must be created with an
+ * application specific id by a custom ILTagFactory.
+ * 
+ * @since 2026.10.18
+ */
+public class ILSignedILIntArrayTag extends ILILIntArrayTag {
+
+	public ILSignedILIntArrayTag(long id) {
+		super(id);
+	}
+
+	@Override
+	public void deserializeValue(ILTagFactory factory, long tagSize, ILTagDataReader in) throws ILTagException {
+
+		long count = in.readILInt();
+		List<Long> value = this.getValue();
+		value.clear();
+		for (; count > 0; count--) {
+			value.add(ILSignedIntCodec.toSigned(in.readILInt()));
+		}
+	}
+
+	@Override
+	public long getValueSize() {
+
+		List<Long> value = this.getValue();
+		long size = ILIntCodec.getEncodedSize(value.size());
+		for (Long v : value) {
+			size += ILSignedIntCodec.getEncodedSize(v);
+		}
+		return size;
+	}
+
+	@Override
+	protected void serializeValue(ILTagDataWriter out) throws ILTagException {
+
+		List<Long> value = this.getValue();
+		out.writeILInt(value.size());
+		for (Long v : value) {
+			out.writeILInt(ILSignedIntCodec.toUnsigned(v));
+		}
+	}
+}
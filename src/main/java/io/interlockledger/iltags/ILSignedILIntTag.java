@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags;
+
+import io.interlockledger.iltags.ilint.ILSignedIntCodec;
+import io.interlockledger.iltags.io.ILTagDataReader;
+import io.interlockledger.iltags.io.ILTagDataWriter;
+
+/**
+ * This class implements a tag that holds a signed ILInt. Since there is no
+ * standard tag for this type, it must be created with an application specific
+ * id by a custom ILTagFactory.
+ *
+ * @since 2026.10.18
+ */
+public class ILSignedILIntTag extends ILInt64Tag {
+
+	public ILSignedILIntTag(long id) {
+		super(id);
+	}
+
+	@Override
+	public void deserializeValue(ILTagFactory factory, long tagSize, ILTagDataReader in) throws ILTagException {
+		this.value = ILSignedIntCodec.toSigned(in.readILInt());
+	}
+
+	@Override
+	public long getValueSize() {
+		return ILSignedIntCodec.getEncodedSize(this.value);
+	}
+
+	@Override
+	protected void serializeValue(ILTagDataWriter out) throws ILTagException {
+		out.writeILInt(ILSignedIntCodec.toUnsigned(this.getValue()));
+	}
+}
@@ -15,10 +15,15 @@
  */
 package io.interlockledger.iltags;
 
+import java.nio.ByteBuffer;
+
 import io.interlockledger.iltags.ilint.ILIntCodec;
+import io.interlockledger.iltags.io.ILByteArrayTagDataWriter;
+import io.interlockledger.iltags.io.ILByteBufferTagDataWriter;
 import io.interlockledger.iltags.io.ILTagDataReader;
 import io.interlockledger.iltags.io.ILTagDataWriter;
 import io.interlockledger.iltags.io.ILTagNotEnoughDataException;
+import io.interlockledger.iltags.io.ILTagTooMuchDataException;
 
 /**
  * This class implements the base class for all ILTag classes.
@@ -230,6 +235,31 @@ public abstract class ILTag {
 		return v;
 	}
 
+	/**
+	 * Reads the contents of the tag as a read-only ByteBuffer. It performs the
+	 * same validations of readRawBytes(long, ILTagDataReader) but avoids the copy
+	 * of the bytes whenever the reader is backed by memory.
+	 * 
+	 * @param tagSize The tag size.
+	 * @param in      The data reader.
+	 * @return The bytes read.
+	 * @throws ILTagException In case of error.
+	 * @since 2026.10.18
+	 */
+	protected ByteBuffer readRawSlice(long tagSize, ILTagDataReader in) throws ILTagException {
+		if (tagSize < 0) {
+			throw new IllegalArgumentException("The tagSize cannot be negative.");
+		}
+		if (tagSize > Integer.MAX_VALUE) {
+			throw new ILTagException("The tag size is too large for this implementation.");
+		}
+		if (tagSize > in.getRemaining()) {
+			throw new ILTagNotEnoughDataException(
+					String.format("Trying to read %1$d bytes from %2$d.", tagSize, in.getRemaining()));
+		}
+		return in.readSlice(tagSize);
+	}
+
 	/**
 	 * Checks if the value of this tag is the same of other. This method is called
 	 * by io.interlockledger.iltags.ILTag.equals(ILTag) if and only if the this and
@@ -260,6 +290,38 @@ public abstract class ILTag {
 		this.serializeValue(out);
 	}
 
+	/**
+	 * Serializes this tag directly into a byte array.
+	 * 
+	 * @param dst The output buffer.
+	 * @param off The offset of dst where the first byte will be written.
+	 * @return The number of bytes written.
+	 * @throws ILTagException If dst is not large enough or in case of error. If
+	 *                        dst is not large enough, nothing is written.
+	 * @throws IndexOutOfBoundsException If off is not valid.
+	 * @since 2026.10.18
+	 */
+	public int serializeInto(byte[] dst, int off) throws ILTagException {
+		return this.serializeInto(ByteBuffer.wrap(dst, off, dst.length - off));
+	}
+
+	/**
+	 * Serializes this tag directly into a ByteBuffer. The tag is written at the
+	 * current position of dst, which is advanced by the size of the tag.
+	 * 
+	 * @param dst The output buffer. It may be a direct buffer.
+	 * @return The number of bytes written.
+	 * @throws ILTagException If dst is not large enough or in case of error. If
+	 *                        dst is not large enough, nothing is written.
+	 * @since 2026.10.18
+	 */
+	public int serializeInto(ByteBuffer dst) throws ILTagException {
+		long size = this.getTagSize();
+		checkAvailable(size, dst.remaining());
+		this.serialize(new ILByteBufferTagDataWriter(dst));
+		return (int) size;
+	}
+
 	/**
 	 * Serializes the value.
 	 * 
@@ -267,4 +329,49 @@ public abstract class ILTag {
 	 * @throws ILTagException In case of errors.
 	 */
 	protected abstract void serializeValue(ILTagDataWriter out) throws ILTagException;
+
+	/**
+	 * Serializes this tag into a new byte array. The array is allocated only once
+	 * with the exact size of the tag.
+	 * 
+	 * @return The serialized tag.
+	 * @throws ILTagException In case of error.
+	 * @since 2026.10.18
+	 */
+	public byte[] toBytes() throws ILTagException {
+		long size = this.getTagSize();
+		if (size > Integer.MAX_VALUE) {
+			throw new ILTagException("The tag size is too large for this implementation.");
+		}
+		ILByteArrayTagDataWriter w = this.serializeExact(size);
+		byte[] data = w.getArray();
+		return (data.length == w.getLength()) ? data : w.toByteArray();
+	}
+
+	/**
+	 * Verifies if the serialized tag fits in the available space.
+	 * 
+	 * @param size      The size of the tag.
+	 * @param available The number of bytes available.
+	 * @throws ILTagTooMuchDataException If the tag does not fit.
+	 */
+	private static void checkAvailable(long size, int available) throws ILTagTooMuchDataException {
+		if (size > available) {
+			throw new ILTagTooMuchDataException(
+					String.format("The tag requires %1$d bytes but only %2$d are available.", size, available));
+		}
+	}
+
+	/**
+	 * Serializes this tag into a writer presized with its exact size.
+	 * 
+	 * @param size The size of the tag as returned by getTagSize().
+	 * @return The writer that holds the serialized tag.
+	 * @throws ILTagException In case of error.
+	 */
+	private ILByteArrayTagDataWriter serializeExact(long size) throws ILTagException {
+		ILByteArrayTagDataWriter w = new ILByteArrayTagDataWriter((int) size);
+		this.serialize(w);
+		return w;
+	}
 }
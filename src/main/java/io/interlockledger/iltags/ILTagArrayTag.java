@@ -36,6 +36,11 @@ public class ILTagArrayTag extends ILTagSequenceTag {
 		super(id);
 	}
 
+	@Override
+	protected long computeValueSize() {
+		return ILIntCodec.getEncodedSize(this.value.size()) + super.computeValueSize();
+	}
+
 	@Override
 	public void deserializeValue(ILTagFactory factory, long tagSize, ILTagDataReader in) throws ILTagException {
 		long count;
@@ -52,11 +57,6 @@ public class ILTagArrayTag extends ILTagSequenceTag {
 		in.popLimit(true);
 	}
 
-	@Override
-	public long getValueSize() {
-		return ILIntCodec.getEncodedSize(this.value.size()) + super.getValueSize();
-	}
-
 	@Override
 	protected void serializeValue(ILTagDataWriter out) throws ILTagException {
 		out.writeILInt(this.value.size());
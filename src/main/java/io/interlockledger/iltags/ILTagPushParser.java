@@ -0,0 +1,362 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+import io.interlockledger.iltags.ilint.ILIntCodec;
+import io.interlockledger.iltags.ilint.ILIntException;
+import io.interlockledger.iltags.io.ILByteArrayTagDataReader;
+
+/**
+ * This class implements a resumable parser for a stream of top-level tags. The
+ * bytes are pushed into the parser as they arrive, in chunks of any size, and
+ * each tag is deserialized as soon as all its bytes are available. The header
+ * of the pending tag is parsed only once, thus partial data is never parsed
+ * again.
+ * 
+ * <p>
+ * It is useful to parse tags from non-blocking channels. This class is not
+ * thread safe.
+ * </p>
+ * 
+ * @since 2026.10.18
+ */
+public class ILTagPushParser {
+
+	/**
+	 * The default maximum size of a single tag, including its header.
+	 */
+	public static final int DEFAULT_MAX_TAG_SIZE = 16 * 1024 * 1024;
+
+	private static final int STATE_ID = 0;
+
+	private static final int STATE_SIZE = 1;
+
+	private static final int STATE_ILINT_VALUE = 2;
+
+	private static final int STATE_VALUE = 3;
+
+	private final ILTagFactory factory;
+
+	private final ArrayDeque<ILTag> tags = new ArrayDeque<>();
+
+	private int maxTagSize = DEFAULT_MAX_TAG_SIZE;
+
+	private byte[] buffer = new byte[256];
+
+	// Offset of the first byte of the pending tag inside buffer
+	private int start;
+
+	// Number of valid bytes inside buffer
+	private int count;
+
+	private int state = STATE_ID;
+
+	// Size of the header of the pending tag already parsed
+	private int headerSize;
+
+	private long tagId;
+
+	private long valueSize;
+
+	/**
+	 * Creates a new instance of this class.
+	 * 
+	 * @param factory The factory used to deserialize the tags.
+	 */
+	public ILTagPushParser(ILTagFactory factory) {
+		this.factory = factory;
+	}
+
+	/**
+	 * Pushes new bytes into this parser. All complete tags will be deserialized
+	 * and made available through poll().
+	 * 
+	 * <p>
+	 * If this method fails, the incomplete tag is discarded. The tags already
+	 * deserialized but not polled yet are kept.
+	 * </p>
+	 * 
+	 * @param b   The buffer.
+	 * @param off The offset.
+	 * @param len The number of bytes.
+	 * @return The number of tags available.
+	 * @throws ILTagException In case of malformed or oversized tags.
+	 */
+	public int feed(byte[] b, int off, int len) throws ILTagException {
+		if ((off < 0) || (len < 0) || (off > b.length - len)) {
+			throw new IndexOutOfBoundsException();
+		}
+		System.arraycopy(b, off, this.prepare(len), this.count, len);
+		this.count += len;
+		return this.parse();
+	}
+
+	/**
+	 * Pushes all remaining bytes of the given buffer into this parser. All
+	 * complete tags will be deserialized and made available through poll().
+	 * 
+	 * <p>
+	 * If this method fails, the incomplete tag is discarded. The tags already
+	 * deserialized but not polled yet are kept.
+	 * </p>
+	 * 
+	 * @param src The source buffer. Its position will be moved to its limit.
+	 * @return The number of tags available.
+	 * @throws ILTagException In case of malformed or oversized tags.
+	 */
+	public int feed(ByteBuffer src) throws ILTagException {
+		int len = src.remaining();
+		src.get(this.prepare(len), this.count, len);
+		this.count += len;
+		return this.parse();
+	}
+
+	/**
+	 * Returns the number of deserialized tags that were not polled yet.
+	 * 
+	 * @return The number of tags available.
+	 */
+	public int getAvailable() {
+		return this.tags.size();
+	}
+
+	/**
+	 * Returns the maximum size of a single tag.
+	 * 
+	 * @return The maximum size of a single tag, including its header.
+	 */
+	public int getMaxTagSize() {
+		return this.maxTagSize;
+	}
+
+	/**
+	 * Returns the number of bytes of the incomplete tag held by this parser.
+	 * 
+	 * @return The number of pending bytes.
+	 */
+	public int getPending() {
+		return this.count - this.start;
+	}
+
+	/**
+	 * Removes and returns the oldest deserialized tag.
+	 * 
+	 * @return The tag or null if no tags are available.
+	 */
+	public ILTag poll() {
+		return this.tags.poll();
+	}
+
+	/**
+	 * Discards all pending data and all tags not polled yet.
+	 */
+	public void reset() {
+		this.tags.clear();
+		this.discardPending();
+	}
+
+	/**
+	 * Sets the maximum size of a single tag. Larger tags are rejected as soon as
+	 * their headers are parsed. It protects the parser against the allocation of
+	 * huge buffers.
+	 * 
+	 * @param maxTagSize The maximum size of a single tag, including its header.
+	 * @throws IllegalArgumentException If maxTagSize is not positive.
+	 */
+	public void setMaxTagSize(int maxTagSize) {
+		if (maxTagSize <= 0) {
+			throw new IllegalArgumentException("Invalid maximum tag size.");
+		}
+		this.maxTagSize = maxTagSize;
+	}
+
+	/**
+	 * Decodes the ILInt that starts at the end of the header parsed so far.
+	 * 
+	 * @return The value or -1 if the value is not complete yet. Negative values
+	 *         are not valid in this context thus -1 is never a valid result.
+	 * @throws ILTagException If the value is not valid.
+	 */
+	private long decodeHeaderILInt() throws ILTagException {
+		int p = this.start + this.headerSize;
+		if (p >= this.count) {
+			return -1;
+		}
+		int size = ILIntCodec.encodedSizeFromHeader(this.buffer[p]);
+		if (this.count - p < size) {
+			return -1;
+		}
+		try {
+			long v = ILIntCodec.decode(this.buffer, p, this.count);
+			if (v < 0) {
+				throw new ILTagException("Invalid tag header.");
+			}
+			this.headerSize += size;
+			return v;
+		} catch (ILIntException e) {
+			throw new ILTagException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Discards the incomplete tag held by this parser. Tags already deserialized
+	 * are preserved.
+	 */
+	private void discardPending() {
+		this.start = 0;
+		this.count = 0;
+		this.state = STATE_ID;
+		this.headerSize = 0;
+	}
+
+	/**
+	 * Parses all complete tags found in the buffer.
+	 * 
+	 * @return The number of tags available.
+	 * @throws ILTagException In case of error.
+	 */
+	private int parse() throws ILTagException {
+
+		try {
+			while (this.parseNext()) {
+			}
+		} catch (ILTagException e) {
+			this.discardPending();
+			throw e;
+		}
+		if (this.start == this.count) {
+			this.start = 0;
+			this.count = 0;
+		}
+		return this.tags.size();
+	}
+
+	/**
+	 * Advances the state machine of the parser.
+	 * 
+	 * @return true if there is still data to be parsed or false otherwise.
+	 * @throws ILTagException In case of error.
+	 */
+	private boolean parseNext() throws ILTagException {
+		long v;
+
+		switch (this.state) {
+		case STATE_ID:
+			v = this.decodeHeaderILInt();
+			if (v < 0) {
+				return false;
+			}
+			this.tagId = v;
+			if (!ILTag.isImplicity(v)) {
+				this.state = STATE_SIZE;
+			} else if (v == ILStandardTags.TAG_ILINT64.ordinal()) {
+				this.state = STATE_ILINT_VALUE;
+			} else {
+				this.setValueSize(ILTag.getImplicitValueSize(v));
+			}
+			return true;
+		case STATE_SIZE:
+			v = this.decodeHeaderILInt();
+			if (v < 0) {
+				return false;
+			}
+			this.setValueSize(v);
+			return true;
+		case STATE_ILINT_VALUE:
+			int p = this.start + this.headerSize;
+			if (p >= this.count) {
+				return false;
+			}
+			this.setValueSize(ILIntCodec.encodedSizeFromHeader(this.buffer[p]));
+			return true;
+		case STATE_VALUE:
+			int tagSize = this.headerSize + (int) this.valueSize;
+			if (this.count - this.start < tagSize) {
+				return false;
+			}
+			// Each tag gets its own copy because tags may keep views of the reader's
+			// memory (e.g. ILByteArrayTag in slice mode) while buffer is reused.
+			ILByteArrayTagDataReader in = new ILByteArrayTagDataReader(
+					Arrays.copyOfRange(this.buffer, this.start, this.start + tagSize));
+			ILTag tag;
+			try {
+				tag = this.factory.deserialize(in);
+			} catch (RuntimeException e) {
+				this.discardPending();
+				throw new ILTagException(String.format("Unable to deserialize the tag %1$X.", this.tagId), e);
+			}
+			if (in.getOffset() != tagSize) {
+				throw new ILTagException(String.format("Tag %1$X was not fully consumed.", this.tagId));
+			}
+			this.tags.add(tag);
+			this.start += tagSize;
+			this.headerSize = 0;
+			this.state = STATE_ID;
+			return true;
+		default:
+			throw new IllegalStateException();
+		}
+	}
+
+	/**
+	 * Ensures that the buffer can receive more len bytes after count. The
+	 * pending bytes are moved to the beginning of the buffer if necessary.
+	 * 
+	 * @param len The number of bytes to be added.
+	 * @return The buffer.
+	 */
+	private byte[] prepare(int len) {
+		int pending = this.count - this.start;
+		if (len > this.buffer.length - this.count) {
+			if (len > this.buffer.length - pending) {
+				int newSize = Math.max(this.buffer.length * 2, pending + len);
+				if (newSize < 0) {
+					newSize = Integer.MAX_VALUE;
+				}
+				byte[] newBuffer = new byte[newSize];
+				System.arraycopy(this.buffer, this.start, newBuffer, 0, pending);
+				this.buffer = newBuffer;
+			} else {
+				System.arraycopy(this.buffer, this.start, this.buffer, 0, pending);
+			}
+			this.start = 0;
+			this.count = pending;
+		}
+		return this.buffer;
+	}
+
+	/**
+	 * Sets the size of the value of the pending tag and moves to the value state.
+	 * 
+	 * @param valueSize The size of the value.
+	 * @throws ILTagException If the size is invalid or if the tag is larger than
+	 *                        the maximum tag size.
+	 */
+	private void setValueSize(long valueSize) throws ILTagException {
+		if (valueSize < 0) {
+			throw new ILTagException(String.format("Cannot handle unknown implicit tag %1$X.", this.tagId));
+		}
+		if (valueSize > this.maxTagSize - this.headerSize) {
+			throw new ILTagException(String.format("Tag %1$X is too large.", this.tagId));
+		}
+		this.valueSize = valueSize;
+		this.state = STATE_VALUE;
+	}
+}
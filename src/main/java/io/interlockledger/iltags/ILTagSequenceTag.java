@@ -17,6 +17,7 @@ package io.interlockledger.iltags;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
 
 import io.interlockledger.iltags.io.ILTagDataReader;
@@ -65,6 +66,9 @@ public class ILTagSequenceTag extends ILTag {
 		return true;
 	}
 
+	// Value sizes memoized by the serialization running on the current thread.
+	private static final ThreadLocal<IdentityHashMap<ILTagSequenceTag, Long>> SERIALIZATION_SIZES = new ThreadLocal<>();
+
 	protected ArrayList<ILTag> value = new ArrayList<>();
 
 	public ILTagSequenceTag() {
@@ -75,6 +79,33 @@ public class ILTagSequenceTag extends ILTag {
 		super(id);
 	}
 
+	/**
+	 * Computes the size of the serialized value in bytes. It is called by
+	 * getValueSize() whenever the size is not memoized.
+	 * 
+	 * <p>
+	 * Subclasses that change the format of the value must override this method
+	 * instead of getValueSize() in order to benefit from the memoization
+	 * performed by serialize(ILTagDataWriter).
+	 * </p>
+	 * 
+	 * @return The size of the serialized value in bytes.
+	 * @since 2026.10.18
+	 */
+	protected long computeValueSize() {
+		long size;
+
+		size = 0;
+		for (ILTag t : this.value) {
+			if (t != null) {
+				size += t.getTagSize();
+			} else {
+				size += ILNullTag.NULL.getTagSize();
+			}
+		}
+		return size;
+	}
+
 	@Override
 	public void deserializeValue(ILTagFactory factory, long tagSize, ILTagDataReader in) throws ILTagException {
 		this.value.clear();
@@ -101,17 +132,14 @@ public class ILTagSequenceTag extends ILTag {
 
 	@Override
 	public long getValueSize() {
-		long size;
-
-		size = 0;
-		for (ILTag t : this.value) {
-			if (t != null) {
-				size += t.getTagSize();
-			} else {
-				size += ILNullTag.NULL.getTagSize();
+		IdentityHashMap<ILTagSequenceTag, Long> sizes = SERIALIZATION_SIZES.get();
+		if (sizes != null) {
+			Long size = sizes.get(this);
+			if (size != null) {
+				return size.longValue();
 			}
 		}
-		return size;
+		return this.computeValueSize();
 	}
 
 	@Override
@@ -120,6 +148,40 @@ public class ILTagSequenceTag extends ILTag {
 		return equals(this.getValue(), t.getValue());
 	}
 
+	/**
+	 * Serializes this tag. The value sizes of this tag and of all nested
+	 * sequences are computed only once and memoized until the end of the
+	 * serialization, thus the cost of the serialization is linear to the number
+	 * of nested tags regardless of the depth of the tree.
+	 * 
+	 * <p>
+	 * The memoized sizes belong to the calling thread, thus the same tree can be
+	 * serialized concurrently by multiple threads as long as it is not modified
+	 * during the serialization.
+	 * </p>
+	 */
+	@Override
+	public void serialize(ILTagDataWriter out) throws ILTagException {
+		IdentityHashMap<ILTagSequenceTag, Long> sizes = SERIALIZATION_SIZES.get();
+
+		if (sizes != null) {
+			// Nested inside the serialization of another sequence
+			if (!sizes.containsKey(this)) {
+				this.cacheSizes(sizes);
+			}
+			super.serialize(out);
+			return;
+		}
+		sizes = new IdentityHashMap<>();
+		SERIALIZATION_SIZES.set(sizes);
+		try {
+			this.cacheSizes(sizes);
+			super.serialize(out);
+		} finally {
+			SERIALIZATION_SIZES.remove();
+		}
+	}
+
 	@Override
 	protected void serializeValue(ILTagDataWriter out) throws ILTagException {
 
@@ -136,4 +198,24 @@ public class ILTagSequenceTag extends ILTag {
 		this.value.clear();
 		this.value.addAll(value);
 	}
+
+	/**
+	 * Computes and memoizes the value size of this tag and of all nested
+	 * sequences. The nested sequences are handled first, thus each size is
+	 * computed only once.
+	 * 
+	 * @param sizes The memoized sizes. It must be the map bound to the current
+	 *              thread.
+	 */
+	private void cacheSizes(IdentityHashMap<ILTagSequenceTag, Long> sizes) {
+		if (sizes.containsKey(this)) {
+			return;
+		}
+		for (ILTag t : this.value) {
+			if (t instanceof ILTagSequenceTag) {
+				((ILTagSequenceTag) t).cacheSizes(sizes);
+			}
+		}
+		sizes.put(this, this.computeValueSize());
+	}
 }
@@ -15,9 +15,18 @@
  */
 package io.interlockledger.iltags.ilint;
 
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * This class implements the ILInt format as specified in
@@ -62,6 +71,30 @@ public class ILIntCodec {
 	 */
 	public static final int ILINT_BASE = 0xF8;
 
+	/**
+	 * Encoded size of multi-byte ILInts indexed by the number of leading zeros of
+	 * value - ILINT_BASE.
+	 */
+	private static final int[] ENCODED_SIZES = new int[65];
+
+	static {
+		for (int lz = 0; lz < ENCODED_SIZES.length; lz++) {
+			int bytes = (64 - lz + 7) / 8;
+			ENCODED_SIZES[lz] = 1 + Math.max(bytes, 1);
+		}
+	}
+
+	/**
+	 * Scratch buffer used by the stream and channel methods. It is large enough
+	 * to hold the largest ILInt.
+	 */
+	private static final ThreadLocal<ByteBuffer> SCRATCH = new ThreadLocal<ByteBuffer>() {
+		@Override
+		protected ByteBuffer initialValue() {
+			return ByteBuffer.allocate(9);
+		}
+	};
+
 	/**
 	 * Reads a ILInt from a byte buffer.
 	 * 
@@ -70,18 +103,149 @@ public class ILIntCodec {
 	 * @throws ILIntException In case of error.
 	 */
 	public static long decode(ByteBuffer buff) throws ILIntException {
+
+		// Word-at-a-time fast path if the largest ILInt fits in the buffer
+		if (buff.remaining() >= 9) {
+			int pos = buff.position();
+			int size = buff.get(pos) & 0xFF;
+			if (size < ILINT_BASE) {
+				buff.position(pos + 1);
+				return size;
+			}
+			size = size - ILINT_BASE + 1;
+			long v = buff.getLong(pos + 1);
+			if (buff.order() == ByteOrder.LITTLE_ENDIAN) {
+				v = Long.reverseBytes(v);
+			}
+			buff.position(pos + 1 + size);
+			return addBase(v >>> ((8 - size) << 3));
+		}
 		return decode(buff, ByteBufferHandler.INSTANCE);
 	}
 
 	/**
-	 * Reads a ILInt from an InputStream.
+	 * Reads a ILInt from an InputStream. The header is read first and all
+	 * remaining bytes are read with a single bulk call whenever possible. If in
+	 * is an ILIntInputStream, the value is decoded directly from its buffer.
+	 * 
+	 * <p>
+	 * Since this method cannot read ahead, unbuffered streams still require 2
+	 * calls to read per multi-byte value. Wrap them with an ILIntInputStream in
+	 * order to avoid that.
+	 * </p>
 	 * 
 	 * @param in The InputStream.
 	 * @return The value read.
 	 * @throws ILIntException In case of error.
 	 */
 	public static long decode(InputStream in) throws ILIntException {
-		return decode(in, InputStreamHandler.INSTANCE);
+
+		if (in instanceof ILIntInputStream) {
+			return ((ILIntInputStream) in).readILInt();
+		}
+		try {
+			int size = in.read();
+			if (size < 0) {
+				throw new ILIntException("Premature end of stream.");
+			}
+			if (size < ILINT_BASE) {
+				return size;
+			}
+			size = size - ILINT_BASE + 1;
+			// Read the remaining bytes in a single bulk call whenever possible
+			byte[] tmp = SCRATCH.get().array();
+			int off = 0;
+			while (off < size) {
+				int r = in.read(tmp, off, size - off);
+				if (r < 0) {
+					throw new ILIntException("Premature end of stream.");
+				}
+				off += r;
+			}
+			long v = 0;
+			for (int i = 0; i < size; i++) {
+				v = (v << 8) | (tmp[i] & 0xFF);
+			}
+			return addBase(v);
+		} catch (IOException e) {
+			throw new ILIntException(e);
+		}
+	}
+
+	/**
+	 * Reads a ILInt from a DataInputStream. This method exists only to resolve the
+	 * ambiguity between decode(InputStream) and decode(DataInput).
+	 * 
+	 * @param in The DataInputStream.
+	 * @return The value read.
+	 * @throws ILIntException In case of error.
+	 * @since 2026.10.18
+	 */
+	public static long decode(DataInputStream in) throws ILIntException {
+		return decode((DataInput) in);
+	}
+
+	/**
+	 * Reads a ILInt from a DataInput. The value is read with at most 4 calls to
+	 * the DataInput.
+	 * 
+	 * @param in The DataInput.
+	 * @return The value read.
+	 * @throws ILIntException In case of error.
+	 * @since 2026.10.18
+	 */
+	public static long decode(DataInput in) throws ILIntException {
+
+		try {
+			int size = in.readUnsignedByte();
+			if (size < ILINT_BASE) {
+				return size;
+			}
+			size = size - ILINT_BASE + 1;
+			long v;
+			if (size == 8) {
+				v = in.readLong();
+			} else {
+				v = 0;
+				if ((size & 4) != 0) {
+					v = in.readInt() & 0xFFFFFFFFl;
+				}
+				if ((size & 2) != 0) {
+					v = (v << 16) | in.readUnsignedShort();
+				}
+				if ((size & 1) != 0) {
+					v = (v << 8) | in.readUnsignedByte();
+				}
+			}
+			return addBase(v);
+		} catch (EOFException e) {
+			throw new ILIntException("Premature end of stream.", e);
+		} catch (IOException e) {
+			throw new ILIntException(e);
+		}
+	}
+
+	/**
+	 * Reads a ILInt from a blocking ReadableByteChannel. The header is read first
+	 * and all remaining bytes are read with a single bulk call whenever possible.
+	 * 
+	 * @param in The channel.
+	 * @return The value read.
+	 * @throws ILIntException In case of error.
+	 * @since 2026.10.18
+	 */
+	public static long decode(ReadableByteChannel in) throws ILIntException {
+
+		ByteBuffer tmp = SCRATCH.get();
+		tmp.clear();
+		tmp.limit(1);
+		readFully(in, tmp);
+		int size = encodedSizeFromHeader(tmp.get(0));
+		if (size > 1) {
+			tmp.limit(size);
+			readFully(in, tmp);
+		}
+		return decode(tmp.array(), 0, size);
 	}
 
 	/**
@@ -105,14 +269,147 @@ public class ILIntCodec {
 				v = v << 8;
 				v = v | ((long) inputHandler.get(in));
 			}
-			// Check overflow
-			if ((v <= 0xFFFFFFFFFFFFFFFFl) && (v >= 0xFFFFFFFFFFFFFF07l)) {
-				throw new ILIntException("Overflow.");
+			return addBase(v);
+		}
+	}
+
+	/**
+	 * Decodes an ILInt stored in a byte array. This method does not change any
+	 * state, thus the number of bytes used by the value must be determined by a
+	 * call to encodedSizeFromHeader(byte) using the first byte of the value.
+	 * 
+	 * @param buf The buffer.
+	 * @param off The offset of the encoded value.
+	 * @return The decoded value.
+	 * @throws ILIntException If the input is truncated or if the value
+	 *                        overflows.
+	 * @since 2026.10.18
+	 */
+	public static long decode(byte[] buf, int off) throws ILIntException {
+		return decode(buf, off, buf.length);
+	}
+
+	/**
+	 * Decodes an ILInt stored in a byte array. This method does not change any
+	 * state, thus the number of bytes used by the value must be determined by a
+	 * call to encodedSizeFromHeader(byte) using the first byte of the value.
+	 * 
+	 * @param buf   The buffer.
+	 * @param off   The offset of the encoded value.
+	 * @param limit The offset of the end of the input in buf. No bytes at or
+	 *              after this offset will be read.
+	 * @return The decoded value.
+	 * @throws ILIntException If the input is truncated or if the value
+	 *                        overflows.
+	 * @since 2026.10.18
+	 */
+	public static long decode(byte[] buf, int off, int limit) throws ILIntException {
+
+		if (off >= limit) {
+			throw new ILIntException("Premature end of data.");
+		}
+		int size = buf[off] & 0xFF;
+		if (size < ILINT_BASE) {
+			return size;
+		} else {
+			size = size - ILINT_BASE + 1;
+			if (limit - off > 8) {
+				// Word-at-a-time fast path
+				return addBase(getLong(buf, off + 1) >>> ((8 - size) << 3));
+			}
+			if (size > limit - off - 1) {
+				throw new ILIntException("Premature end of data.");
 			}
-			return v + ILINT_BASE;
+			long v = 0;
+			for (int i = 1; i <= size; i++) {
+				v = (v << 8) | (buf[off + i] & 0xFF);
+			}
+			return addBase(v);
 		}
 	}
 
+	/**
+	 * Decodes a sequence of ILInt values stored in a byte array. This method does
+	 * not rely on input handlers, thus it is much faster than multiple calls to
+	 * decode(Object, InputHandler).
+	 * 
+	 * @param src    The source bytes.
+	 * @param off    The offset of the first encoded value in src.
+	 * @param dst    The array that will receive the decoded values.
+	 * @param dstOff The offset of the first value in dst.
+	 * @param count  The number of values to decode.
+	 * @return The number of bytes consumed.
+	 * @throws ILIntException If the input is truncated or if a value overflows.
+	 * @since 2026.10.18
+	 */
+	public static int decodeArray(byte[] src, int off, long[] dst, int dstOff, int count) throws ILIntException {
+		return decodeArray(src, off, src.length, dst, dstOff, count);
+	}
+
+	/**
+	 * Decodes a sequence of ILInt values stored in a byte array.
+	 * 
+	 * @param src    The source bytes.
+	 * @param off    The offset of the first encoded value in src.
+	 * @param limit  The offset of the end of the input in src.
+	 * @param dst    The array that will receive the decoded values.
+	 * @param dstOff The offset of the first value in dst.
+	 * @param count  The number of values to decode.
+	 * @return The number of bytes consumed.
+	 * @throws ILIntException If the input is truncated or if a value overflows.
+	 */
+	private static int decodeArray(byte[] src, int off, int limit, long[] dst, int dstOff, int count)
+			throws ILIntException {
+
+		int p = off;
+		int end = dstOff + count;
+		for (int i = dstOff; i < end; i++) {
+			dst[i] = decode(src, p, limit);
+			p += encodedSizeFromHeader(src[p]);
+		}
+		return p - off;
+	}
+
+	/**
+	 * Decodes a sequence of ILInt values from a byte buffer. The position of the
+	 * buffer is advanced by the number of bytes consumed.
+	 * 
+	 * @param src    The source buffer.
+	 * @param dst    The array that will receive the decoded values.
+	 * @param dstOff The offset of the first value in dst.
+	 * @param count  The number of values to decode.
+	 * @return The number of bytes consumed.
+	 * @throws ILIntException If the input is truncated or if a value overflows.
+	 * @since 2026.10.18
+	 */
+	public static int decodeArray(ByteBuffer src, long[] dst, int dstOff, int count) throws ILIntException {
+
+		if (src.hasArray()) {
+			int start = src.arrayOffset() + src.position();
+			int size = decodeArray(src.array(), start, start + src.remaining(), dst, dstOff, count);
+			src.position(src.position() + size);
+			return size;
+		}
+		int start = src.position();
+		int end = dstOff + count;
+		for (int i = dstOff; i < end; i++) {
+			dst[i] = decode(src);
+		}
+		return src.position() - start;
+	}
+
+	/**
+	 * Returns the size of an encoded ILInt based on its first byte.
+	 * 
+	 * @param header The first byte of the encoded ILInt.
+	 * @return The size of the encoded ILInt in bytes, including the header.
+	 * @since 2026.10.18
+	 */
+	public static int encodedSizeFromHeader(byte header) {
+		int h = header & 0xFF;
+		return (h < ILINT_BASE) ? 1 : h - ILINT_BASE + 2;
+	}
+
 	/**
 	 * Encodes a value using the ILInt format.
 	 * 
@@ -134,7 +431,96 @@ public class ILIntCodec {
 	 * @throws ILIntException In case of error.
 	 */
 	public static int encode(long value, OutputStream out) throws ILIntException {
-		return encode(value, out, OutputStreamHandler.INSTANCE);
+
+		byte[] tmp = SCRATCH.get().array();
+		int size = encode(value, tmp, 0);
+		try {
+			out.write(tmp, 0, size);
+		} catch (IOException e) {
+			throw new ILIntException(e);
+		}
+		return size;
+	}
+
+	/**
+	 * Encodes a value using the ILInt format. This method exists only to resolve
+	 * the ambiguity between encode(long, OutputStream) and encode(long,
+	 * DataOutput).
+	 * 
+	 * @param value The value to be written.
+	 * @param out   The DataOutputStream.
+	 * @return The number of bytes written.
+	 * @throws ILIntException In case of error.
+	 * @since 2026.10.18
+	 */
+	public static int encode(long value, DataOutputStream out) throws ILIntException {
+		return encode(value, (DataOutput) out);
+	}
+
+	/**
+	 * Encodes a value using the ILInt format. The value is written with at most 4
+	 * calls to the DataOutput.
+	 * 
+	 * @param value The value to be written.
+	 * @param out   The DataOutput.
+	 * @return The number of bytes written.
+	 * @throws ILIntException In case of error.
+	 * @since 2026.10.18
+	 */
+	public static int encode(long value, DataOutput out) throws ILIntException {
+
+		int size = getEncodedSize(value);
+		try {
+			if (size == 1) {
+				out.writeByte((int) value);
+			} else {
+				out.writeByte(ILINT_BASE + (size - 2));
+				value = value - ILINT_BASE;
+				int width = size - 1;
+				if (width == 8) {
+					out.writeLong(value);
+				} else {
+					if ((width & 4) != 0) {
+						out.writeInt((int) (value >>> (8 * (width - 4))));
+					}
+					if ((width & 2) != 0) {
+						out.writeShort((int) (value >>> (8 * (width & 1))));
+					}
+					if ((width & 1) != 0) {
+						out.writeByte((int) value);
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new ILIntException(e);
+		}
+		return size;
+	}
+
+	/**
+	 * Encodes a value using the ILInt format into a blocking WritableByteChannel.
+	 * The value is written with a single bulk call whenever possible.
+	 * 
+	 * @param value The value to be written.
+	 * @param out   The channel.
+	 * @return The number of bytes written.
+	 * @throws ILIntException In case of error.
+	 * @since 2026.10.18
+	 */
+	public static int encode(long value, WritableByteChannel out) throws ILIntException {
+
+		ByteBuffer buff = SCRATCH.get();
+		int size = encode(value, buff.array(), 0);
+		buff.clear();
+		buff.limit(size);
+		try {
+			while (buff.hasRemaining()) {
+				out.write(buff);
+			}
+		} catch (IOException e) {
+			throw new ILIntException(e);
+		}
+		return size;
 	}
 
 	/**
@@ -164,33 +550,377 @@ public class ILIntCodec {
 		return size;
 	}
 
+	/**
+	 * Encodes a value using the ILInt format directly into a byte array. This
+	 * method does not rely on output handlers.
+	 * 
+	 * @param value The value to be written.
+	 * @param dst   The output buffer.
+	 * @param off   The offset of dst where the first byte will be written.
+	 * @return The number of bytes written.
+	 * @throws ILIntException If dst is not large enough to hold the encoded value.
+	 * @since 2026.10.18
+	 */
+	public static int encode(long value, byte[] dst, int off) throws ILIntException {
+		return encode(value, dst, off, dst.length);
+	}
+
+	/**
+	 * Encodes a value using the ILInt format directly into a byte array.
+	 * 
+	 * @param value The value to be written.
+	 * @param dst   The output buffer.
+	 * @param off   The offset of dst where the first byte will be written.
+	 * @param limit The offset of the end of the output in dst.
+	 * @return The number of bytes written.
+	 * @throws ILIntException If dst is not large enough to hold the encoded value.
+	 */
+	private static int encode(long value, byte[] dst, int off, int limit) throws ILIntException {
+
+		int size = getEncodedSize(value);
+		if (size > limit - off) {
+			throw new ILIntException("Not enough space to encode the value.");
+		}
+		if (size == 1) {
+			dst[off] = (byte) value;
+		} else {
+			dst[off] = (byte) (ILINT_BASE + (size - 2));
+			value = value - ILINT_BASE;
+			for (int i = size - 1; i > 0; i--) {
+				dst[off + i] = (byte) value;
+				value = value >>> 8;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Encodes a sequence of values using the ILInt format. This method does not
+	 * rely on output handlers, thus it is much faster than multiple calls to
+	 * encode(long, Object, OutputHandler).
+	 * 
+	 * @param src    The values to be encoded.
+	 * @param srcOff The offset of the first value in src.
+	 * @param count  The number of values to encode.
+	 * @param dst    The output buffer.
+	 * @param off    The offset of dst where the first byte will be written.
+	 * @return The number of bytes written.
+	 * @throws ILIntException If dst is not large enough to hold the encoded
+	 *                        values.
+	 * @since 2026.10.18
+	 */
+	public static int encodeArray(long[] src, int srcOff, int count, byte[] dst, int off) throws ILIntException {
+		return encodeArray(src, srcOff, count, dst, off, dst.length);
+	}
+
+	/**
+	 * Encodes a sequence of values using the ILInt format.
+	 * 
+	 * @param src    The values to be encoded.
+	 * @param srcOff The offset of the first value in src.
+	 * @param count  The number of values to encode.
+	 * @param dst    The output buffer.
+	 * @param off    The offset of dst where the first byte will be written.
+	 * @param limit  The offset of the end of the output in dst.
+	 * @return The number of bytes written.
+	 * @throws ILIntException If dst is not large enough to hold the encoded
+	 *                        values.
+	 */
+	private static int encodeArray(long[] src, int srcOff, int count, byte[] dst, int off, int limit)
+			throws ILIntException {
+
+		int p = off;
+		int end = srcOff + count;
+		for (int i = srcOff; i < end; i++) {
+			p += encode(src[i], dst, p, limit);
+		}
+		return p - off;
+	}
+
+	/**
+	 * Encodes a sequence of values using the ILInt format. The position of the
+	 * buffer is advanced by the number of bytes written.
+	 * 
+	 * @param src    The values to be encoded.
+	 * @param srcOff The offset of the first value in src.
+	 * @param count  The number of values to encode.
+	 * @param dst    The output buffer.
+	 * @return The number of bytes written.
+	 * @throws ILIntException If dst is not large enough to hold the encoded
+	 *                        values.
+	 * @since 2026.10.18
+	 */
+	public static int encodeArray(long[] src, int srcOff, int count, ByteBuffer dst) throws ILIntException {
+
+		if (dst.hasArray()) {
+			int start = dst.arrayOffset() + dst.position();
+			int size = encodeArray(src, srcOff, count, dst.array(), start, start + dst.remaining());
+			dst.position(dst.position() + size);
+			return size;
+		}
+		int start = dst.position();
+		int end = srcOff + count;
+		for (int i = srcOff; i < end; i++) {
+			encode(src[i], dst, ByteBufferHandler.INSTANCE);
+		}
+		return dst.position() - start;
+	}
+
+	/**
+	 * Returns the size of the given values encoded as ILInts.
+	 * 
+	 * @param values The values.
+	 * @param off    The offset of the first value.
+	 * @param count  The number of values.
+	 * @return The size in bytes.
+	 * @since 2026.10.18
+	 */
+	public static long getEncodedSize(long[] values, int off, int count) {
+		long size = 0;
+		int end = off + count;
+		for (int i = off; i < end; i++) {
+			size += getEncodedSize(values[i]);
+		}
+		return size;
+	}
+
 	/**
 	 * Returns the size of the given value encoded as an ILInt.
+	 * 
+	 * <p>
+	 * This implementation is branch free. It uses the number of leading zeros of
+	 * value - ILINT_BASE to select the size from ENCODED_SIZES and corrects the
+	 * result for values smaller than ILINT_BASE.
+	 * </p>
 	 *
 	 * @return The size in bytes.
 	 */
 	public static int getEncodedSize(long value) {
+		long v = value - ILINT_BASE;
+		// 1 if and only if 0 <= value < ILINT_BASE. In this case v is negative and
+		// ENCODED_SIZES[0] is 9.
+		int small = (int) ((v & ~value) >>> 63);
+		return ENCODED_SIZES[Long.numberOfLeadingZeros(v)] - (small << 3);
+	}
 
-		if (value < 0) {
-			return 9;
-		} else if (value < ILINT_BASE) {
-			return 1;
-		} else if (value <= (0xFF + ILINT_BASE)) {
-			return 2;
-		} else if (value <= (0xFFFF + ILINT_BASE)) {
-			return 3;
-		} else if (value <= (0xFFFFFFl + ILINT_BASE)) {
-			return 4;
-		} else if (value <= (0xFFFFFFFFl + ILINT_BASE)) {
-			return 5;
-		} else if (value <= (0xFFFFFFFFFFl + ILINT_BASE)) {
-			return 6;
-		} else if (value <= (0xFFFFFFFFFFFFl + ILINT_BASE)) {
-			return 7;
-		} else if (value <= (0xFFFFFFFFFFFFFFl + ILINT_BASE)) {
-			return 8;
-		} else {
-			return 9;
+	/**
+	 * Skips a sequence of ILInt values stored in a byte array. Only the headers of
+	 * the values are inspected, thus the values themselves are not validated.
+	 * 
+	 * @param buf   The buffer.
+	 * @param off   The offset of the first encoded value.
+	 * @param limit The offset of the end of the input in buf.
+	 * @param count The number of values to skip.
+	 * @return The number of bytes skipped.
+	 * @throws ILIntException If the input is truncated.
+	 * @since 2026.10.18
+	 */
+	public static int skip(byte[] buf, int off, int limit, long count) throws ILIntException {
+
+		int p = off;
+		for (; count > 0; count--) {
+			if (p >= limit) {
+				throw new ILIntException("Premature end of data.");
+			}
+			p += encodedSizeFromHeader(buf[p]);
+		}
+		if (p > limit) {
+			throw new ILIntException("Premature end of data.");
 		}
+		return p - off;
+	}
+
+	/**
+	 * Skips a sequence of ILInt values from a byte buffer. Only the headers of the
+	 * values are inspected, thus the values themselves are not validated. The
+	 * position of the buffer is advanced by the number of bytes skipped. It is
+	 * left unchanged in case of error.
+	 * 
+	 * @param buff  The buffer.
+	 * @param count The number of values to skip.
+	 * @return The number of bytes skipped.
+	 * @throws ILIntException If the input is truncated.
+	 * @since 2026.10.18
+	 */
+	public static int skip(ByteBuffer buff, long count) throws ILIntException {
+
+		int start = buff.position();
+		int limit = buff.limit();
+		int p = start;
+		for (; count > 0; count--) {
+			if (p >= limit) {
+				throw new ILIntException("Premature end of data.");
+			}
+			p += encodedSizeFromHeader(buff.get(p));
+		}
+		if (p > limit) {
+			throw new ILIntException("Premature end of data.");
+		}
+		buff.position(p);
+		return p - start;
+	}
+
+	/**
+	 * Counts the number of ILInt values stored in a byte array without decoding
+	 * them. All values must be complete and valid.
+	 * 
+	 * <p>
+	 * This method processes the input 8 bytes at a time, thus runs of single byte
+	 * values are counted without inspecting each byte individually.
+	 * </p>
+	 * 
+	 * @param buf   The buffer.
+	 * @param off   The offset of the first encoded value.
+	 * @param limit The offset of the end of the input in buf.
+	 * @return The number of values found.
+	 * @throws ILIntException If the last value is truncated or if a value
+	 *                        overflows.
+	 * @since 2026.10.18
+	 */
+	public static long count(byte[] buf, int off, int limit) throws ILIntException {
+
+		long count = 0;
+		int p = off;
+		while (p < limit) {
+			if (limit - p >= 8) {
+				int singles = countSingleByteValues(getLong(buf, p));
+				count += singles;
+				p += singles;
+				if (singles == 8) {
+					continue;
+				}
+			}
+			p += getValidatedSize(buf, p, limit);
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Validates a sequence of ILInt values stored in a byte array without decoding
+	 * them.
+	 * 
+	 * <p>
+	 * This method processes the input 8 bytes at a time, thus runs of single byte
+	 * values are validated without inspecting each byte individually.
+	 * </p>
+	 * 
+	 * @param buf   The buffer.
+	 * @param off   The offset of the first encoded value.
+	 * @param limit The offset of the end of the input in buf.
+	 * @param count The number of values expected.
+	 * @return The offset of the end of the last value.
+	 * @throws ILIntException If the input is truncated or if a value overflows.
+	 * @since 2026.10.18
+	 */
+	public static int validate(byte[] buf, int off, int limit, long count) throws ILIntException {
+
+		int p = off;
+		while (count > 0) {
+			if (limit - p >= 8) {
+				int singles = countSingleByteValues(getLong(buf, p));
+				if (singles >= count) {
+					return p + (int) count;
+				}
+				count -= singles;
+				p += singles;
+				if (singles == 8) {
+					continue;
+				}
+			}
+			if (p >= limit) {
+				throw new ILIntException("Premature end of data.");
+			}
+			p += getValidatedSize(buf, p, limit);
+			count--;
+		}
+		return p;
+	}
+
+	/**
+	 * Returns the number of single byte ILInts at the beginning of 8 bytes packed
+	 * as a big endian long. A byte is a multi-byte header if and only if its 5
+	 * most significant bits are set.
+	 * 
+	 * @param w The 8 bytes.
+	 * @return The number of single byte values before the first multi-byte header.
+	 */
+	private static int countSingleByteValues(long w) {
+		// Bytes that are headers become 0
+		long y = (w & 0xF8F8F8F8F8F8F8F8l) ^ 0xF8F8F8F8F8F8F8F8l;
+		// Exact zero byte detection: 0x80 for each zero byte, 0 otherwise
+		long t = (y & 0x7F7F7F7F7F7F7F7Fl) + 0x7F7F7F7F7F7F7F7Fl;
+		long zeros = ~(t | y | 0x7F7F7F7F7F7F7F7Fl);
+		return Long.numberOfLeadingZeros(zeros) >>> 3;
+	}
+
+	/**
+	 * Returns the size of the ILInt at the given offset after verifying that it is
+	 * complete and does not overflow.
+	 * 
+	 * @param buf   The buffer.
+	 * @param off   The offset of the value.
+	 * @param limit The offset of the end of the input in buf.
+	 * @return The size of the value.
+	 * @throws ILIntException If the value is truncated or overflows.
+	 */
+	private static int getValidatedSize(byte[] buf, int off, int limit) throws ILIntException {
+
+		int size = encodedSizeFromHeader(buf[off]);
+		if (size > limit - off) {
+			throw new ILIntException("Premature end of data.");
+		}
+		if (size == 9) {
+			addBase(getLong(buf, off + 1));
+		}
+		return size;
+	}
+
+	/**
+	 * Reads bytes from the channel until the buffer is full.
+	 * 
+	 * @param in   The channel.
+	 * @param buff The buffer.
+	 * @throws ILIntException If the channel ends prematurely or in case of I/O
+	 *                        error.
+	 */
+	private static void readFully(ReadableByteChannel in, ByteBuffer buff) throws ILIntException {
+		try {
+			while (buff.hasRemaining()) {
+				if (in.read(buff) < 0) {
+					throw new ILIntException("Premature end of stream.");
+				}
+			}
+		} catch (IOException e) {
+			throw new ILIntException(e);
+		}
+	}
+
+	/**
+	 * Adds ILINT_BASE to the raw value extracted from a multi-byte ILInt.
+	 * 
+	 * @param v The raw value.
+	 * @return The decoded value.
+	 * @throws ILIntException If the result overflows.
+	 */
+	private static long addBase(long v) throws ILIntException {
+		// Check overflow
+		if ((v <= 0xFFFFFFFFFFFFFFFFl) && (v >= 0xFFFFFFFFFFFFFF07l)) {
+			throw new ILIntException("Overflow.");
+		}
+		return v + ILINT_BASE;
+	}
+
+	/**
+	 * Reads a 64-bit big endian integer from a byte array.
+	 * 
+	 * @param buf The buffer. It must have at least 8 bytes after off.
+	 * @param off The offset.
+	 * @return The value read.
+	 */
+	private static long getLong(byte[] buf, int off) {
+		return ((buf[off] & 0xFFl) << 56) | ((buf[off + 1] & 0xFFl) << 48) | ((buf[off + 2] & 0xFFl) << 40)
+				| ((buf[off + 3] & 0xFFl) << 32) | ((buf[off + 4] & 0xFFl) << 24) | ((buf[off + 5] & 0xFFl) << 16)
+				| ((buf[off + 6] & 0xFFl) << 8) | (buf[off + 7] & 0xFFl);
 	}
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.ilint;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * This class implements a buffered InputStream that can also read ILInts. The
+ * data is read from the underlying stream in large chunks into an internal
+ * buffer that is reused across calls, thus reading an ILInt usually does not
+ * touch the underlying stream at all.
+ * 
+ * <p>
+ * It is intended for protocols that frame their messages with ILInts, like
+ * length-prefixed ones. Since this stream reads ahead, the payloads that follow
+ * the ILInts must be read from this stream instead of the underlying one.
+ * Unlike java.io.BufferedInputStream, this class is not synchronized and does
+ * not support mark/reset.
+ * </p>
+ * 
+ * <p>
+ * ILIntCodec.decode(InputStream) detects instances of this class and uses
+ * readILInt() directly.
+ * </p>
+ * 
+ * @since 2026.10.18
+ */
+public class ILIntInputStream extends FilterInputStream {
+
+	/**
+	 * The default buffer size.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	/**
+	 * The minimum buffer size. It must be large enough to hold the largest ILInt.
+	 */
+	public static final int MIN_BUFFER_SIZE = 16;
+
+	private final byte[] buffer;
+
+	// Position of the next byte inside buffer
+	private int pos;
+
+	// Number of valid bytes inside buffer
+	private int count;
+
+	/**
+	 * Creates a new instance of this class with the default buffer size.
+	 * 
+	 * @param in The underlying input stream.
+	 */
+	public ILIntInputStream(InputStream in) {
+		this(in, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a new instance of this class.
+	 * 
+	 * @param in         The underlying input stream.
+	 * @param bufferSize The size of the internal buffer.
+	 * @throws IllegalArgumentException If bufferSize is smaller than
+	 *                                  MIN_BUFFER_SIZE.
+	 */
+	public ILIntInputStream(InputStream in, int bufferSize) {
+		super(in);
+		if (bufferSize < MIN_BUFFER_SIZE) {
+			throw new IllegalArgumentException("Invalid buffer size.");
+		}
+		this.buffer = new byte[bufferSize];
+	}
+
+	@Override
+	public int available() throws IOException {
+		return (this.count - this.pos) + this.in.available();
+	}
+
+	/**
+	 * Returns the number of bytes available inside the internal buffer.
+	 * 
+	 * @return The number of bytes available.
+	 */
+	public int getBuffered() {
+		return this.count - this.pos;
+	}
+
+	@Override
+	public void mark(int readlimit) {
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if ((this.pos == this.count) && (!this.fill(1))) {
+			return -1;
+		}
+		return this.buffer[this.pos++] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+
+		if ((off < 0) || (len < 0) || (off > b.length - len)) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (len == 0) {
+			return 0;
+		}
+		int available = this.count - this.pos;
+		if (available == 0) {
+			if (len >= this.buffer.length) {
+				// Large reads bypass the buffer
+				return this.in.read(b, off, len);
+			}
+			if (!this.fill(1)) {
+				return -1;
+			}
+			available = this.count - this.pos;
+		}
+		int size = Math.min(len, available);
+		System.arraycopy(this.buffer, this.pos, b, off, size);
+		this.pos += size;
+		return size;
+	}
+
+	/**
+	 * Reads an ILInt.
+	 * 
+	 * @return The value read.
+	 * @throws ILIntException If the stream ends prematurely, if the value
+	 *                        overflows or in case of I/O error.
+	 */
+	public long readILInt() throws ILIntException {
+
+		try {
+			if ((this.pos == this.count) && (!this.fill(1))) {
+				throw new ILIntException("Premature end of stream.");
+			}
+			int size = ILIntCodec.encodedSizeFromHeader(this.buffer[this.pos]);
+			if ((this.count - this.pos < size) && (!this.fill(size))) {
+				throw new ILIntException("Premature end of stream.");
+			}
+			long v = ILIntCodec.decode(this.buffer, this.pos, this.count);
+			this.pos += size;
+			return v;
+		} catch (IOException e) {
+			throw new ILIntException(e);
+		}
+	}
+
+	@Override
+	public void reset() throws IOException {
+		throw new IOException("mark/reset not supported.");
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+
+		if (n <= 0) {
+			return 0;
+		}
+		int available = this.count - this.pos;
+		if (available > 0) {
+			int size = (int) Math.min(n, available);
+			this.pos += size;
+			return size;
+		}
+		return this.in.skip(n);
+	}
+
+	/**
+	 * Ensures that at least n bytes are available in the buffer. The unread bytes
+	 * are moved to the beginning of the buffer if necessary.
+	 * 
+	 * @param n The number of bytes required. It must not be larger than the size
+	 *          of the buffer.
+	 * @return true if the bytes are available or false if the end of the stream
+	 *         was reached before that.
+	 * @throws IOException In case of I/O error.
+	 */
+	private boolean fill(int n) throws IOException {
+
+		if (this.buffer.length - this.pos < n) {
+			int available = this.count - this.pos;
+			System.arraycopy(this.buffer, this.pos, this.buffer, 0, available);
+			this.pos = 0;
+			this.count = available;
+		}
+		while (this.count - this.pos < n) {
+			int r = this.in.read(this.buffer, this.count, this.buffer.length - this.count);
+			if (r < 0) {
+				return false;
+			}
+			this.count += r;
+		}
+		return true;
+	}
+}
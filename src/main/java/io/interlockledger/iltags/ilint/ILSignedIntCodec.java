@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.ilint;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * This class implements the signed ILInt format. Signed values are mapped into
+ * unsigned ones using the ZigZag encoding (0, -1, 1, -2, 2, ... are mapped to 0,
+ * 1, 2, 3, 4, ...) and then encoded with ILIntCodec. Thus, small negative
+ * values are encoded with as few bytes as small positive values.
+ * 
+ * @since 2026.10.18
+ */
+public class ILSignedIntCodec {
+
+	/**
+	 * Maps a signed value into its unsigned ZigZag representation.
+	 * 
+	 * @param value The signed value.
+	 * @return The unsigned representation.
+	 */
+	public static long toUnsigned(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	/**
+	 * Maps an unsigned ZigZag representation back into its signed value.
+	 * 
+	 * @param value The unsigned representation.
+	 * @return The signed value.
+	 */
+	public static long toSigned(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Reads a signed ILInt from a byte buffer.
+	 * 
+	 * @param buff The buffer that contains the bytes.
+	 * @return The value read.
+	 * @throws ILIntException In case of error.
+	 */
+	public static long decode(ByteBuffer buff) throws ILIntException {
+		return toSigned(ILIntCodec.decode(buff));
+	}
+
+	/**
+	 * Reads a signed ILInt from an InputStream.
+	 * 
+	 * @param in The InputStream.
+	 * @return The value read.
+	 * @throws ILIntException In case of error.
+	 */
+	public static long decode(InputStream in) throws ILIntException {
+		return toSigned(ILIntCodec.decode(in));
+	}
+
+	/**
+	 * Reads a signed ILInt from the input using the given input handler.
+	 * 
+	 * @param <T>          The type of the input.
+	 * @param in           The input itself.
+	 * @param inputHandler The input handler.
+	 * @return The decoded value.
+	 * @throws ILIntException In case of error.
+	 */
+	public static <T> long decode(T in, ILIntCodec.InputHandler<T> inputHandler) throws ILIntException {
+		return toSigned(ILIntCodec.decode(in, inputHandler));
+	}
+
+	/**
+	 * Encodes a value using the signed ILInt format.
+	 * 
+	 * @param value The value to be written.
+	 * @param buff  The byte output.
+	 * @return The number of bytes written.
+	 * @throws ILIntException In case of error.
+	 */
+	public static int encode(long value, ByteBuffer buff) throws ILIntException {
+		return ILIntCodec.encode(toUnsigned(value), buff);
+	}
+
+	/**
+	 * Encodes a value using the signed ILInt format.
+	 * 
+	 * @param value The value to be written.
+	 * @param out   The output stream.
+	 * @return The number of bytes written.
+	 * @throws ILIntException In case of error.
+	 */
+	public static int encode(long value, OutputStream out) throws ILIntException {
+		return ILIntCodec.encode(toUnsigned(value), out);
+	}
+
+	/**
+	 * Encodes a value using the signed ILInt format.
+	 * 
+	 * @param <T>           The type of the output.
+	 * @param value         The value to be written.
+	 * @param out           The output itself.
+	 * @param outputHandler The output handler.
+	 * @return The number of bytes written.
+	 * @throws ILIntException In case of error.
+	 */
+	public static <T> int encode(long value, T out, ILIntCodec.OutputHandler<T> outputHandler)
+			throws ILIntException {
+		return ILIntCodec.encode(toUnsigned(value), out, outputHandler);
+	}
+
+	/**
+	 * Returns the size of the given value encoded as a signed ILInt.
+	 *
+	 * @param value The value.
+	 * @return The size in bytes.
+	 */
+	public static int getEncodedSize(long value) {
+		return ILIntCodec.getEncodedSize(toUnsigned(value));
+	}
+}
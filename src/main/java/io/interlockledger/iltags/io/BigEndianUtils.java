@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+/**
+ * Big endian conversion utility methods for byte arrays.
+ *
+ * @since 2026.10.18
+ */
+final class BigEndianUtils {
+
+	/**
+	 * Reads a 16-bit big endian integer.
+	 * 
+	 * @param b   The buffer.
+	 * @param off The offset.
+	 * @return The value read.
+	 */
+	public static short getShort(byte[] b, int off) {
+		return (short) ((b[off] << 8) | (b[off + 1] & 0xFF));
+	}
+
+	/**
+	 * Reads a 32-bit big endian integer.
+	 * 
+	 * @param b   The buffer.
+	 * @param off The offset.
+	 * @return The value read.
+	 */
+	public static int getInt(byte[] b, int off) {
+		return (b[off] << 24) | ((b[off + 1] & 0xFF) << 16) | ((b[off + 2] & 0xFF) << 8) | (b[off + 3] & 0xFF);
+	}
+
+	/**
+	 * Reads a 64-bit big endian integer.
+	 * 
+	 * @param b   The buffer.
+	 * @param off The offset.
+	 * @return The value read.
+	 */
+	public static long getLong(byte[] b, int off) {
+		return (((long) getInt(b, off)) << 32) | (getInt(b, off + 4) & 0xFFFFFFFFl);
+	}
+
+	/**
+	 * Writes a 16-bit big endian integer.
+	 * 
+	 * @param v   The value.
+	 * @param b   The buffer.
+	 * @param off The offset.
+	 */
+	public static void putShort(short v, byte[] b, int off) {
+		b[off] = (byte) (v >> 8);
+		b[off + 1] = (byte) v;
+	}
+
+	/**
+	 * Writes a 32-bit big endian integer.
+	 * 
+	 * @param v   The value.
+	 * @param b   The buffer.
+	 * @param off The offset.
+	 */
+	public static void putInt(int v, byte[] b, int off) {
+		b[off] = (byte) (v >> 24);
+		b[off + 1] = (byte) (v >> 16);
+		b[off + 2] = (byte) (v >> 8);
+		b[off + 3] = (byte) v;
+	}
+
+	/**
+	 * Writes a 64-bit big endian integer.
+	 * 
+	 * @param v   The value.
+	 * @param b   The buffer.
+	 * @param off The offset.
+	 */
+	public static void putLong(long v, byte[] b, int off) {
+		putInt((int) (v >> 32), b, off);
+		putInt((int) v, b, off + 4);
+	}
+
+	private BigEndianUtils() {
+	}
+}
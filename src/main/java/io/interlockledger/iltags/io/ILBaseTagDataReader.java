@@ -18,8 +18,6 @@ package io.interlockledger.iltags.io;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.util.ArrayDeque;
-import java.util.Deque;
 
 import io.interlockledger.iltags.ILTagException;
 import io.interlockledger.iltags.ilint.ILIntCodec;
@@ -35,9 +33,16 @@ import io.interlockledger.iltags.ilint.ILIntException;
  */
 public abstract class ILBaseTagDataReader implements ILTagDataReader {
 
+	/**
+	 * Default maximum number of nested limits.
+	 * 
+	 * @since 2026.10.18
+	 */
+	public static final int DEFAULT_MAX_LIMIT_DEPTH = 1024;
+
 	private final ByteBuffer tmp;
 
-	private final Deque<Long> limits = new ArrayDeque<>();
+	private final ILLimitStack limits = new ILLimitStack();
 
 	private long offset = 0;
 
@@ -49,6 +54,16 @@ public abstract class ILBaseTagDataReader implements ILTagDataReader {
 		tmp.order(ByteOrder.BIG_ENDIAN);
 	}
 
+	/**
+	 * Returns the maximum number of nested limits allowed by this reader.
+	 * 
+	 * @return The maximum number of nested limits.
+	 * @since 2026.10.18
+	 */
+	public int getMaxLimitDepth() {
+		return this.limits.getMaxDepth();
+	}
+
 	@Override
 	public long getOffset() {
 		return this.offset;
@@ -186,6 +201,21 @@ public abstract class ILBaseTagDataReader implements ILTagDataReader {
 		return tmp.getShort();
 	}
 
+	@Override
+	public ByteBuffer readSlice(long n) throws ILTagException {
+
+		if (n < 0) {
+			throw new IllegalArgumentException("n cannot be negative.");
+		}
+		if (n > Integer.MAX_VALUE) {
+			throw new ILTagException("The slice is too large for this implementation.");
+		}
+		this.updateOffset(n);
+		byte[] v = new byte[(int) n];
+		this.readBytesCore(v, 0, v.length);
+		return ByteBuffer.wrap(v).asReadOnlyBuffer();
+	}
+
 	@Override
 	public String readString(long n) throws ILTagException {
 		StringBuilder v = new StringBuilder();
@@ -228,6 +258,33 @@ public abstract class ILBaseTagDataReader implements ILTagDataReader {
 		}
 	}
 
+	/**
+	 * Sets the maximum number of nested limits allowed by this reader. It protects
+	 * the reader against maliciously nested tags.
+	 * 
+	 * @param maxLimitDepth The maximum number of nested limits.
+	 * @throws IllegalArgumentException If maxLimitDepth is smaller than 1 or
+	 *                                  smaller than the number of limits already
+	 *                                  in effect.
+	 * @since 2026.10.18
+	 */
+	public void setMaxLimitDepth(int maxLimitDepth) {
+		this.limits.setMaxDepth(maxLimitDepth);
+	}
+
+	/**
+	 * Resets the state of this reader. It sets the offset to 0 and removes all
+	 * limits. Subclasses must call this method when they are bound to a new data
+	 * source.
+	 * 
+	 * @since 2026.10.18
+	 */
+	protected void reset() {
+		this.offset = 0;
+		this.currentLimit = Long.MAX_VALUE;
+		this.limits.clear();
+	}
+
 	@Override
 	public void skip(long n) throws ILTagException {
 		updateOffset(n);
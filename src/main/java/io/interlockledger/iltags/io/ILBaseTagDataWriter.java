@@ -51,6 +51,16 @@ public abstract class ILBaseTagDataWriter implements ILTagDataWriter {
 		return offset;
 	}
 
+	/**
+	 * Resets the state of this writer by setting the offset to 0. Subclasses must
+	 * call this method when they are bound to a new destination.
+	 * 
+	 * @since 2026.10.18
+	 */
+	protected void reset() {
+		this.offset = 0;
+	}
+
 	/**
 	 * Updates the current offset.
 	 * 
@@ -86,8 +96,20 @@ public abstract class ILBaseTagDataWriter implements ILTagDataWriter {
 		this.updateOffset(size);
 	}
 
-	private void writeBytes(ByteBuffer tmp) throws ILTagException {
-		this.writeBytes(tmp.array(), 0, tmp.position());
+	@Override
+	public void writeBytes(ByteBuffer v) throws ILTagException {
+
+		if (v.hasArray()) {
+			this.writeBytes(v.array(), v.arrayOffset() + v.position(), v.remaining());
+			v.position(v.limit());
+		} else {
+			byte[] chunk = new byte[Math.min(v.remaining(), 8192)];
+			while (v.hasRemaining()) {
+				int size = Math.min(chunk.length, v.remaining());
+				v.get(chunk, 0, size);
+				this.writeBytes(chunk, 0, size);
+			}
+		}
 	}
 
 	/**
@@ -105,24 +127,23 @@ public abstract class ILBaseTagDataWriter implements ILTagDataWriter {
 	public void writeDouble(double v) throws ILTagException {
 		tmp.rewind();
 		tmp.putDouble(v);
-		this.writeBytes(tmp);
+		this.writeTmp(tmp);
 	}
 
 	@Override
 	public void writeFloat(float v) throws ILTagException {
 		tmp.rewind();
 		tmp.putFloat(v);
-		this.writeBytes(tmp);
+		this.writeTmp(tmp);
 
 	}
 
 	@Override
 	public void writeILInt(long v) throws ILTagException {
 
-		tmp.rewind();
 		try {
-			ILIntCodec.encode(v, tmp);
-			this.writeBytes(tmp);
+			int size = ILIntCodec.encode(v, tmp.array(), 0);
+			this.writeBytes(tmp.array(), 0, size);
 		} catch (ILIntException e) {
 			throw new ILTagException(e.getMessage(), e);
 		}
@@ -132,21 +153,21 @@ public abstract class ILBaseTagDataWriter implements ILTagDataWriter {
 	public void writeInt(int v) throws ILTagException {
 		tmp.rewind();
 		tmp.putInt(v);
-		this.writeBytes(tmp);
+		this.writeTmp(tmp);
 	}
 
 	@Override
 	public void writeLong(long v) throws ILTagException {
 		tmp.rewind();
 		tmp.putLong(v);
-		this.writeBytes(tmp);
+		this.writeTmp(tmp);
 	}
 
 	@Override
 	public void writeShort(short v) throws ILTagException {
 		tmp.rewind();
 		tmp.putShort(v);
-		this.writeBytes(tmp);
+		this.writeTmp(tmp);
 	}
 
 	@Override
@@ -165,4 +186,8 @@ public abstract class ILBaseTagDataWriter implements ILTagDataWriter {
 			}
 		}
 	}
+
+	private void writeTmp(ByteBuffer tmp) throws ILTagException {
+		this.writeBytes(tmp.array(), 0, tmp.position());
+	}
 }
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+
+import io.interlockledger.iltags.ILTagException;
+import io.interlockledger.iltags.ilint.ILIntCodec;
+import io.interlockledger.iltags.ilint.ILIntException;
+
+/**
+ * This class implements a buffered ILTagDataReader for InputStreams. All
+ * values are served from an internal buffer that is refilled in bulk, thus
+ * the underlying stream is accessed only when the buffer runs out of data.
+ * 
+ * <p>
+ * Since this reader reads ahead, the underlying stream may be positioned after
+ * the last value read by this instance.
+ * </p>
+ * 
+ * @since 2026.10.18
+ */
+public class ILBufferedInputStreamTagDataReader extends ILInputStreamTagDataReader {
+
+	/**
+	 * The default buffer size.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	/**
+	 * The minimum buffer size. It must be large enough to hold the largest
+	 * primitive value.
+	 */
+	public static final int MIN_BUFFER_SIZE = 16;
+
+	private final byte[] buffer;
+
+	// Position of the next byte inside buffer
+	private int pos;
+
+	// Number of valid bytes inside buffer
+	private int count;
+
+	/**
+	 * Creates a new instance of this class with the default buffer size.
+	 * 
+	 * @param in The underlying input stream.
+	 */
+	public ILBufferedInputStreamTagDataReader(InputStream in) {
+		this(in, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a new instance of this class.
+	 * 
+	 * @param in         The underlying input stream.
+	 * @param bufferSize The size of the internal buffer.
+	 * @throws IllegalArgumentException If bufferSize is smaller than
+	 *                                  MIN_BUFFER_SIZE.
+	 */
+	public ILBufferedInputStreamTagDataReader(InputStream in, int bufferSize) {
+		super(in);
+		if (bufferSize < MIN_BUFFER_SIZE) {
+			throw new IllegalArgumentException("Invalid buffer size.");
+		}
+		this.buffer = new byte[bufferSize];
+	}
+
+	/**
+	 * Returns the number of bytes available inside the internal buffer.
+	 * 
+	 * @return The number of bytes available.
+	 */
+	public int getBuffered() {
+		return this.count - this.pos;
+	}
+
+	/**
+	 * Returns the size of the internal buffer.
+	 * 
+	 * @return The size of the internal buffer.
+	 */
+	public int getBufferSize() {
+		return this.buffer.length;
+	}
+
+	@Override
+	protected byte readByteCore() throws ILTagException {
+		if (this.pos == this.count) {
+			this.fill(1);
+		}
+		return this.buffer[this.pos++];
+	}
+
+	@Override
+	protected void readBytesCore(byte[] v, int off, int size) throws ILTagException {
+
+		int available = this.count - this.pos;
+		if (size <= available) {
+			System.arraycopy(this.buffer, this.pos, v, off, size);
+			this.pos += size;
+			return;
+		}
+		System.arraycopy(this.buffer, this.pos, v, off, available);
+		off += available;
+		size -= available;
+		this.pos = 0;
+		this.count = 0;
+		if (size >= this.buffer.length) {
+			super.readBytesCore(v, off, size);
+		} else {
+			this.fill(size);
+			System.arraycopy(this.buffer, 0, v, off, size);
+			this.pos = size;
+		}
+	}
+
+	@Override
+	public double readDouble() throws ILTagException {
+		return Double.longBitsToDouble(this.readLong());
+	}
+
+	@Override
+	public float readFloat() throws ILTagException {
+		return Float.intBitsToFloat(this.readInt());
+	}
+
+	@Override
+	public long readILInt() throws ILTagException {
+
+		this.updateOffset(1);
+		if (this.pos == this.count) {
+			this.fill(1);
+		}
+		int size = ILIntCodec.encodedSizeFromHeader(this.buffer[this.pos]);
+		if (size == 1) {
+			return this.buffer[this.pos++] & 0xFF;
+		}
+		this.updateOffset(size - 1);
+		if (this.count - this.pos < size) {
+			this.fill(size);
+		}
+		try {
+			long v = ILIntCodec.decode(this.buffer, this.pos, this.count);
+			this.pos += size;
+			return v;
+		} catch (ILIntException e) {
+			throw new ILTagException(e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public int readInt() throws ILTagException {
+		return BigEndianUtils.getInt(this.buffer, this.use(4));
+	}
+
+	@Override
+	public long readLong() throws ILTagException {
+		return BigEndianUtils.getLong(this.buffer, this.use(8));
+	}
+
+	@Override
+	public short readShort() throws ILTagException {
+		return BigEndianUtils.getShort(this.buffer, this.use(2));
+	}
+
+	@Override
+	public String readString(long n) throws ILTagException {
+		if ((n < 0) || (n > this.buffer.length)) {
+			return super.readString(n);
+		}
+		int p = this.use((int) n);
+		try {
+			return UTF8Utils.decode(this.buffer, p, (int) n);
+		} catch (BufferUnderflowException e) {
+			throw new ILTagNotEnoughDataException("Incomplete UTF-8 character.", e);
+		} catch (IllegalArgumentException e) {
+			throw new ILTagException("Unable to read the string.", e);
+		}
+	}
+
+	@Override
+	public long readString(long n, Appendable v) throws ILTagException {
+		if ((n < 0) || (n > this.buffer.length)) {
+			return super.readString(n, v);
+		}
+		int p = this.use((int) n);
+		try {
+			return UTF8Utils.decode(this.buffer, p, (int) n, v);
+		} catch (BufferUnderflowException e) {
+			throw new ILTagNotEnoughDataException("Incomplete UTF-8 character.", e);
+		} catch (IOException | IllegalArgumentException e) {
+			throw new ILTagException("Unable to read the string.", e);
+		}
+	}
+
+	@Override
+	public void reset(InputStream in) {
+		super.reset(in);
+		this.pos = 0;
+		this.count = 0;
+	}
+
+	@Override
+	protected void skipCore(long n) throws ILTagException {
+
+		int available = this.count - this.pos;
+		if (n <= available) {
+			this.pos += (int) n;
+			return;
+		}
+		n -= available;
+		this.pos = 0;
+		this.count = 0;
+		try {
+			while (n > 0) {
+				long s = this.in.skip(n);
+				if (s > 0) {
+					n -= s;
+				} else {
+					// Skip not supported or EOF, read into the buffer instead
+					this.fill(1);
+					int r = (int) Math.min(n, this.count);
+					this.pos = r;
+					n -= r;
+				}
+			}
+		} catch (IOException e) {
+			throw new ILTagException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Ensures that at least n bytes are available in the buffer. The unread bytes
+	 * are moved to the beginning of the buffer if necessary.
+	 * 
+	 * @param n The number of bytes required. It must not be larger than the size
+	 *          of the buffer.
+	 * @throws ILTagException In case of error or if the end of the stream is
+	 *                        reached before n bytes are available.
+	 */
+	private void fill(int n) throws ILTagException {
+
+		if (this.buffer.length - this.pos < n) {
+			System.arraycopy(this.buffer, this.pos, this.buffer, 0, this.count - this.pos);
+			this.count -= this.pos;
+			this.pos = 0;
+		}
+		try {
+			while (this.count - this.pos < n) {
+				int r = this.in.read(this.buffer, this.count, this.buffer.length - this.count);
+				if (r < 0) {
+					throw new ILTagNotEnoughDataException("Unexpected end of stream.");
+				}
+				this.count += r;
+			}
+		} catch (IOException e) {
+			throw new ILTagException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Registers the use of n bytes and ensures that they are available in the
+	 * buffer.
+	 * 
+	 * @param n The number of bytes to use.
+	 * @return The position of the first byte inside the buffer.
+	 * @throws ILTagException In case of error.
+	 */
+	private int use(int n) throws ILTagException {
+		this.updateOffset(n);
+		if (this.count - this.pos < n) {
+			this.fill(n);
+		}
+		int p = this.pos;
+		this.pos += n;
+		return p;
+	}
+}
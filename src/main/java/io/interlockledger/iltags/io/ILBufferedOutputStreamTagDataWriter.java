@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import io.interlockledger.iltags.ILTagException;
+import io.interlockledger.iltags.ilint.ILIntCodec;
+import io.interlockledger.iltags.ilint.ILIntException;
+
+/**
+ * This class implements a buffered ILTagDataWriter for OutputStreams. All
+ * values are staged into an internal buffer that is written to the underlying
+ * stream in bulk, thus the stream is accessed only when the buffer becomes
+ * full or when flush() or close() are called.
+ * 
+ * <p>
+ * Since the data is staged, flush() must be called in order to make sure that
+ * all values written reach the underlying stream.
+ * </p>
+ * 
+ * @since 2026.10.18
+ */
+public class ILBufferedOutputStreamTagDataWriter extends ILOutputStreamTagDataWriter {
+
+	/**
+	 * The default buffer size.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	/**
+	 * The minimum buffer size. It must be large enough to hold the largest
+	 * primitive value.
+	 */
+	public static final int MIN_BUFFER_SIZE = 16;
+
+	private final byte[] buffer;
+
+	// Number of staged bytes inside buffer
+	private int count;
+
+	/**
+	 * Creates a new instance of this class with the default buffer size.
+	 * 
+	 * @param out The underlying output stream.
+	 */
+	public ILBufferedOutputStreamTagDataWriter(OutputStream out) {
+		this(out, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a new instance of this class.
+	 * 
+	 * @param out        The underlying output stream.
+	 * @param bufferSize The size of the internal buffer.
+	 * @throws IllegalArgumentException If bufferSize is smaller than
+	 *                                  MIN_BUFFER_SIZE.
+	 */
+	public ILBufferedOutputStreamTagDataWriter(OutputStream out, int bufferSize) {
+		super(out);
+		if (bufferSize < MIN_BUFFER_SIZE) {
+			throw new IllegalArgumentException("Invalid buffer size.");
+		}
+		this.buffer = new byte[bufferSize];
+	}
+
+	/**
+	 * Writes all staged data and closes the underlying stream. The stream is
+	 * closed even if the staged data cannot be written.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			this.flushBuffer();
+		} finally {
+			super.close();
+		}
+	}
+
+	/**
+	 * Writes all staged data and flushes the underlying stream.
+	 */
+	@Override
+	public void flush() throws IOException {
+		this.flushBuffer();
+		super.flush();
+	}
+
+	/**
+	 * Returns the number of bytes staged inside the internal buffer.
+	 * 
+	 * @return The number of bytes staged.
+	 */
+	public int getBuffered() {
+		return this.count;
+	}
+
+	/**
+	 * Returns the size of the internal buffer.
+	 * 
+	 * @return The size of the internal buffer.
+	 */
+	public int getBufferSize() {
+		return this.buffer.length;
+	}
+
+	/**
+	 * Binds this writer to a new output stream and resets its state. The data
+	 * still staged is discarded, thus flush() must be called before this method
+	 * in order to preserve it.
+	 */
+	@Override
+	public void reset(OutputStream out) {
+		super.reset(out);
+		this.count = 0;
+	}
+
+	@Override
+	protected void writeByteCore(byte v) throws ILTagException {
+		int p = this.reserve(1);
+		this.buffer[p] = v;
+	}
+
+	@Override
+	protected void writeBytesCore(byte[] v, int off, int size) throws ILTagException {
+
+		if (size <= this.buffer.length - this.count) {
+			System.arraycopy(v, off, this.buffer, this.count, size);
+			this.count += size;
+		} else {
+			try {
+				this.flushBuffer();
+			} catch (IOException e) {
+				throw new ILTagException(e.getMessage(), e);
+			}
+			if (size >= this.buffer.length) {
+				super.writeBytesCore(v, off, size);
+			} else {
+				System.arraycopy(v, off, this.buffer, 0, size);
+				this.count = size;
+			}
+		}
+	}
+
+	@Override
+	public void writeDouble(double v) throws ILTagException {
+		this.writeLong(Double.doubleToRawLongBits(v));
+	}
+
+	@Override
+	public void writeFloat(float v) throws ILTagException {
+		this.writeInt(Float.floatToRawIntBits(v));
+	}
+
+	@Override
+	public void writeILInt(long v) throws ILTagException {
+		int p = this.use(ILIntCodec.getEncodedSize(v));
+		try {
+			ILIntCodec.encode(v, this.buffer, p);
+		} catch (ILIntException e) {
+			throw new ILTagException(e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public void writeInt(int v) throws ILTagException {
+		BigEndianUtils.putInt(v, this.buffer, this.use(4));
+	}
+
+	@Override
+	public void writeLong(long v) throws ILTagException {
+		BigEndianUtils.putLong(v, this.buffer, this.use(8));
+	}
+
+	@Override
+	public void writeShort(short v) throws ILTagException {
+		BigEndianUtils.putShort(v, this.buffer, this.use(2));
+	}
+
+	/**
+	 * Writes the staged data into the underlying stream.
+	 * 
+	 * @throws IOException In case of I/O error.
+	 */
+	private void flushBuffer() throws IOException {
+		if (this.count > 0) {
+			this.out.write(this.buffer, 0, this.count);
+			this.count = 0;
+		}
+	}
+
+	/**
+	 * Reserves n bytes at the end of the staged data. The staged data is written
+	 * into the underlying stream if necessary.
+	 * 
+	 * @param n The number of bytes. It must not be larger than the size of the
+	 *          buffer.
+	 * @return The position of the first reserved byte.
+	 * @throws ILTagException In case of error.
+	 */
+	private int reserve(int n) throws ILTagException {
+		if (this.buffer.length - this.count < n) {
+			try {
+				this.flushBuffer();
+			} catch (IOException e) {
+				throw new ILTagException(e.getMessage(), e);
+			}
+		}
+		int p = this.count;
+		this.count += n;
+		return p;
+	}
+
+	/**
+	 * Reserves n bytes at the end of the staged data and updates the offset.
+	 * 
+	 * @param n The number of bytes. It must not be larger than the size of the
+	 *          buffer.
+	 * @return The position of the first reserved byte.
+	 * @throws ILTagException In case of error.
+	 */
+	private int use(int n) throws ILTagException {
+		int p = this.reserve(n);
+		this.updateOffset(n);
+		return p;
+	}
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import io.interlockledger.iltags.ILTagException;
+import io.interlockledger.iltags.ilint.ILIntCodec;
+import io.interlockledger.iltags.ilint.ILIntException;
+
+/**
+ * This class implements a fast ILTagDataReader over a byte array. Unlike
+ * ILMemoryTagDataReader, it does not rely on ByteBuffer and all values,
+ * including ILInts, are decoded in place.
+ * 
+ * @since 2026.10.18
+ */
+public final class ILByteArrayTagDataReader implements ILTagDataReader {
+
+	private final ILLimitStack limits = new ILLimitStack();
+
+	private byte[] data;
+
+	// Offset of the first byte
+	private int start;
+
+	// Offset after the last byte
+	private int end;
+
+	// Current read position inside data
+	private int pos;
+
+	// The value Long.MAX_VALUE will be used to denote the unlimited
+	private long currentLimit;
+
+	// Offset inside data where the reads must stop. It is the smallest value
+	// between end and the current limit.
+	private int readLimit;
+
+	/**
+	 * Creates a new instance of this class.
+	 * 
+	 * @param data The input buffer.
+	 */
+	public ILByteArrayTagDataReader(byte[] data) {
+		this(data, 0, data.length);
+	}
+
+	/**
+	 * Creates a new instance of this class.
+	 * 
+	 * @param data The input buffer.
+	 * @param off  The initial offset.
+	 * @param size The number of bytes.
+	 * @throws IndexOutOfBoundsException If off and size are not valid.
+	 */
+	public ILByteArrayTagDataReader(byte[] data, int off, int size) {
+		this.reset(data, off, size);
+	}
+
+	/**
+	 * Returns the maximum number of nested limits allowed by this reader.
+	 * 
+	 * @return The maximum number of nested limits.
+	 */
+	public int getMaxLimitDepth() {
+		return this.limits.getMaxDepth();
+	}
+
+	@Override
+	public long getOffset() {
+		return this.pos - this.start;
+	}
+
+	@Override
+	public long getRemaining() {
+		return this.currentLimit - this.getOffset();
+	}
+
+	@Override
+	public boolean isLimited() {
+		return (this.currentLimit != Long.MAX_VALUE);
+	}
+
+	@Override
+	public void popLimit(boolean checkRemaining) throws ILTagException {
+
+		if (this.limits.isEmpty()) {
+			throw new IllegalStateException("No limits to pop.");
+		}
+		if ((checkRemaining) && (this.getRemaining() > 0)) {
+			throw new ILTagTooMuchDataException(
+					String.format("The reader still have %1$d unread bytes.", this.getRemaining()));
+		}
+		this.setCurrentLimit(this.limits.pop());
+	}
+
+	@Override
+	public void pushLimit(long size) {
+
+		if (size < 0) {
+			throw new IllegalArgumentException("The size cannot be negative.");
+		}
+		long newLimit = this.getOffset() + size;
+		if (newLimit < 0) {
+			throw new IllegalArgumentException("Overflow.");
+		}
+		if ((this.isLimited()) && (newLimit > this.currentLimit)) {
+			throw new IllegalArgumentException("The new size exceeds the available");
+		}
+		this.limits.push(this.currentLimit);
+		this.setCurrentLimit(newLimit);
+	}
+
+	@Override
+	public byte readByte() throws ILTagException {
+		if (this.pos >= this.readLimit) {
+			throw this.notEnoughData(1);
+		}
+		return this.data[this.pos++];
+	}
+
+	@Override
+	public void readBytes(byte[] v) throws ILTagException {
+		this.readBytes(v, 0, v.length);
+	}
+
+	@Override
+	public void readBytes(byte[] v, int off, int size) throws ILTagException {
+		int p = this.use(size);
+		System.arraycopy(this.data, p, v, off, size);
+	}
+
+	@Override
+	public double readDouble() throws ILTagException {
+		return Double.longBitsToDouble(this.readLong());
+	}
+
+	@Override
+	public float readFloat() throws ILTagException {
+		return Float.intBitsToFloat(this.readInt());
+	}
+
+	@Override
+	public long readILInt() throws ILTagException {
+		if (this.pos >= this.readLimit) {
+			throw this.notEnoughData(1);
+		}
+		int p = this.use(ILIntCodec.encodedSizeFromHeader(this.data[this.pos]));
+		try {
+			return ILIntCodec.decode(this.data, p, this.pos);
+		} catch (ILIntException e) {
+			throw new ILTagException(e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public int readInt() throws ILTagException {
+		return BigEndianUtils.getInt(this.data, this.use(4));
+	}
+
+	@Override
+	public long readLong() throws ILTagException {
+		return BigEndianUtils.getLong(this.data, this.use(8));
+	}
+
+	@Override
+	public short readShort() throws ILTagException {
+		return BigEndianUtils.getShort(this.data, this.use(2));
+	}
+
+	@Override
+	public ByteBuffer readSlice(long n) throws ILTagException {
+
+		if (n < 0) {
+			throw new IllegalArgumentException("n cannot be negative.");
+		}
+		if (n > Integer.MAX_VALUE) {
+			throw this.notEnoughData(n);
+		}
+		int p = this.use((int) n);
+		return ByteBuffer.wrap(this.data, p, (int) n).slice().asReadOnlyBuffer();
+	}
+
+	@Override
+	public String readString(long n) throws ILTagException {
+		int p = this.useString(n);
+		try {
+			return UTF8Utils.decode(this.data, p, (int) n);
+		} catch (BufferUnderflowException e) {
+			throw new ILTagNotEnoughDataException("Incomplete UTF-8 character.", e);
+		} catch (IllegalArgumentException e) {
+			throw new ILTagException("Unable to read the string.", e);
+		}
+	}
+
+	@Override
+	public long readString(long n, Appendable v) throws ILTagException {
+		int p = this.useString(n);
+		try {
+			return UTF8Utils.decode(this.data, p, (int) n, v);
+		} catch (BufferUnderflowException e) {
+			throw new ILTagNotEnoughDataException("Incomplete UTF-8 character.", e);
+		} catch (IOException | IllegalArgumentException e) {
+			throw new ILTagException("Unable to read the string.", e);
+		}
+	}
+
+	/**
+	 * Binds this reader to a new byte array and resets its state.
+	 * 
+	 * @param data The input buffer.
+	 */
+	public void reset(byte[] data) {
+		this.reset(data, 0, data.length);
+	}
+
+	/**
+	 * Binds this reader to a new byte array and resets its state. It does not
+	 * allocate any memory, thus a single instance can be used to read any number
+	 * of messages.
+	 * 
+	 * @param data The input buffer.
+	 * @param off  The initial offset.
+	 * @param size The number of bytes.
+	 * @throws IndexOutOfBoundsException If off and size are not valid.
+	 */
+	public void reset(byte[] data, int off, int size) {
+		if ((off < 0) || (size < 0) || (off > data.length - size)) {
+			throw new IndexOutOfBoundsException();
+		}
+		this.data = data;
+		this.start = off;
+		this.end = off + size;
+		this.pos = off;
+		this.currentLimit = Long.MAX_VALUE;
+		this.readLimit = this.end;
+		this.limits.clear();
+	}
+
+	/**
+	 * Sets the maximum number of nested limits allowed by this reader. It protects
+	 * the reader against maliciously nested tags.
+	 * 
+	 * @param maxLimitDepth The maximum number of nested limits.
+	 * @throws IllegalArgumentException If maxLimitDepth is smaller than 1 or
+	 *                                  smaller than the number of limits already
+	 *                                  in effect.
+	 */
+	public void setMaxLimitDepth(int maxLimitDepth) {
+		this.limits.setMaxDepth(maxLimitDepth);
+	}
+
+	@Override
+	public void skip(long n) throws ILTagException {
+
+		if (n < 0) {
+			throw new IllegalArgumentException("Invalid n.");
+		}
+		if (n > Integer.MAX_VALUE) {
+			throw this.notEnoughData(n);
+		}
+		this.use((int) n);
+	}
+
+	@Override
+	public void skipILInt(long n) throws ILTagException {
+
+		if (n < 0) {
+			throw new IllegalArgumentException("n cannot be negative.");
+		}
+		try {
+			this.pos += ILIntCodec.skip(this.data, this.pos, this.readLimit, n);
+		} catch (ILIntException e) {
+			throw new ILTagNotEnoughDataException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Creates the exception thrown when there are not enough bytes to read.
+	 * 
+	 * @param n The number of bytes requested.
+	 * @return The exception.
+	 */
+	private ILTagNotEnoughDataException notEnoughData(long n) {
+		if (n > this.getRemaining()) {
+			return new ILTagNotEnoughDataException(
+					String.format("Trying to read %1$d bytes out of %2$d.", n, this.getRemaining()));
+		} else {
+			return new ILTagNotEnoughDataException("No more bytes to read.");
+		}
+	}
+
+	/**
+	 * Sets the current limit and updates the read limit accordingly.
+	 * 
+	 * @param currentLimit The new current limit.
+	 */
+	private void setCurrentLimit(long currentLimit) {
+		this.currentLimit = currentLimit;
+		if (currentLimit < this.end - this.start) {
+			this.readLimit = this.start + (int) currentLimit;
+		} else {
+			this.readLimit = this.end;
+		}
+	}
+
+	/**
+	 * Registers the use of n bytes.
+	 * 
+	 * @param n The number of bytes to use.
+	 * @return The position of the first byte used.
+	 * @throws ILTagNotEnoughDataException If there are not enough bytes to be read.
+	 */
+	private int use(int n) throws ILTagNotEnoughDataException {
+		int p = this.pos;
+		if (n > this.readLimit - p) {
+			throw this.notEnoughData(n);
+		}
+		this.pos = p + n;
+		return p;
+	}
+
+	/**
+	 * Registers the use of the n bytes of a string.
+	 * 
+	 * @param n The size of the string in bytes.
+	 * @return The position of the first byte of the string.
+	 * @throws ILTagNotEnoughDataException If there are not enough bytes to be read.
+	 */
+	private int useString(long n) throws ILTagNotEnoughDataException {
+
+		if (n < 0) {
+			throw new IllegalArgumentException("n cannot be negative.");
+		}
+		if (n > Integer.MAX_VALUE) {
+			throw this.notEnoughData(n);
+		}
+		return this.use((int) n);
+	}
+}
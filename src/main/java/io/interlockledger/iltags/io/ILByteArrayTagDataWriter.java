@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import io.interlockledger.iltags.ILTagException;
+import io.interlockledger.iltags.ilint.ILIntCodec;
+import io.interlockledger.iltags.ilint.ILIntException;
+
+/**
+ * This class implements a fast ILTagDataWriter over a growable byte array.
+ * Unlike ILMemoryTagDataWriter, it is not synchronized and all values,
+ * including ILInts, are encoded in place.
+ * 
+ * <p>
+ * The internal buffer can be presized with the value returned by
+ * ILTag.getTagSize() in order to avoid reallocations. The data written can be
+ * accessed without copies by getArray() and getLength() or by
+ * getByteBuffer().
+ * </p>
+ * 
+ * @since 2026.10.18
+ */
+public final class ILByteArrayTagDataWriter extends ILBaseTagDataWriter {
+
+	/**
+	 * Default initial capacity.
+	 */
+	public static final int DEFAULT_INITIAL_CAPACITY = 256;
+
+	// Some VMs reserve some header words in arrays
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private byte[] data;
+
+	private int count;
+
+	/**
+	 * Creates a new instance of this class with the default initial capacity.
+	 */
+	public ILByteArrayTagDataWriter() {
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Creates a new instance of this class.
+	 * 
+	 * @param initialCapacity The initial capacity in bytes.
+	 * @throws IllegalArgumentException If initialCapacity is negative.
+	 */
+	public ILByteArrayTagDataWriter(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("The initial capacity cannot be negative.");
+		}
+		this.data = new byte[initialCapacity];
+	}
+
+	/**
+	 * Ensures that this writer can hold at least the specified number of bytes
+	 * without further reallocations.
+	 * 
+	 * @param capacity The minimum capacity in bytes.
+	 * @throws ILTagException If capacity exceeds the maximum capacity of this
+	 *                        writer.
+	 */
+	public void ensureCapacity(long capacity) throws ILTagException {
+
+		if (capacity > this.data.length) {
+			if (capacity > MAX_CAPACITY) {
+				throw new ILTagException(String.format("This writer cannot hold %1$d bytes.", capacity));
+			}
+			long newCapacity = Math.min(Math.max(this.data.length * 2l, capacity), MAX_CAPACITY);
+			this.data = Arrays.copyOf(this.data, (int) newCapacity);
+		}
+	}
+
+	/**
+	 * Returns the internal buffer of this writer. Only the first getLength()
+	 * bytes are valid.
+	 * 
+	 * <p>
+	 * The returned array is not a copy and may be replaced by a new one by the
+	 * next write operation, thus it must not be modified or kept.
+	 * </p>
+	 * 
+	 * @return The internal buffer.
+	 */
+	public byte[] getArray() {
+		return this.data;
+	}
+
+	/**
+	 * Returns a read-only view of the data written.
+	 * 
+	 * <p>
+	 * The returned view shares the internal buffer of this writer and is valid
+	 * only until the next write operation or reset.
+	 * </p>
+	 * 
+	 * @return The read-only view of the data written.
+	 */
+	public ByteBuffer getByteBuffer() {
+		return ByteBuffer.wrap(this.data, 0, this.count).slice().asReadOnlyBuffer();
+	}
+
+	/**
+	 * Returns the current capacity of the internal buffer.
+	 * 
+	 * @return The current capacity.
+	 */
+	public int getCapacity() {
+		return this.data.length;
+	}
+
+	/**
+	 * Returns the number of bytes written.
+	 * 
+	 * @return The number of bytes written.
+	 */
+	public int getLength() {
+		return this.count;
+	}
+
+	/**
+	 * Discards the contents of this writer and resets its state. The internal
+	 * buffer is kept, thus it can be reused without new allocations.
+	 */
+	@Override
+	public void reset() {
+		this.count = 0;
+		super.reset();
+	}
+
+	/**
+	 * Returns a copy of the data written.
+	 * 
+	 * @return The data written.
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOf(this.data, this.count);
+	}
+
+	@Override
+	protected void writeByteCore(byte v) throws ILTagException {
+		int pos = this.reserve(1);
+		this.data[pos] = v;
+	}
+
+	@Override
+	protected void writeBytesCore(byte[] v, int off, int size) throws ILTagException {
+		if ((off < 0) || (size < 0) || (off > v.length - size)) {
+			throw new IndexOutOfBoundsException();
+		}
+		int pos = this.reserve(size);
+		System.arraycopy(v, off, this.data, pos, size);
+	}
+
+	@Override
+	public void writeDouble(double v) throws ILTagException {
+		this.writeLong(Double.doubleToRawLongBits(v));
+	}
+
+	@Override
+	public void writeFloat(float v) throws ILTagException {
+		this.writeInt(Float.floatToRawIntBits(v));
+	}
+
+	@Override
+	public void writeILInt(long v) throws ILTagException {
+		int pos = this.use(ILIntCodec.getEncodedSize(v));
+		try {
+			ILIntCodec.encode(v, this.data, pos);
+		} catch (ILIntException e) {
+			throw new ILTagException(e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public void writeInt(int v) throws ILTagException {
+		int pos = this.use(4);
+		BigEndianUtils.putInt(v, this.data, pos);
+	}
+
+	@Override
+	public void writeLong(long v) throws ILTagException {
+		int pos = this.use(8);
+		BigEndianUtils.putLong(v, this.data, pos);
+	}
+
+	@Override
+	public void writeShort(short v) throws ILTagException {
+		int pos = this.use(2);
+		BigEndianUtils.putShort(v, this.data, pos);
+	}
+
+	/**
+	 * Reserves n bytes at the end of the buffer.
+	 * 
+	 * @param n The number of bytes.
+	 * @return The position of the first reserved byte.
+	 * @throws ILTagException If the buffer cannot grow.
+	 */
+	private int reserve(int n) throws ILTagException {
+		int pos = this.count;
+		this.ensureCapacity((long) pos + n);
+		this.count = pos + n;
+		return pos;
+	}
+
+	/**
+	 * Reserves n bytes at the end of the buffer and updates the offset.
+	 * 
+	 * @param n The number of bytes.
+	 * @return The position of the first reserved byte.
+	 * @throws ILTagException If the buffer cannot grow.
+	 */
+	private int use(int n) throws ILTagException {
+		int pos = this.reserve(n);
+		this.updateOffset(n);
+		return pos;
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import io.interlockledger.iltags.ILTagException;
+import io.interlockledger.iltags.ilint.ILIntCodec;
+import io.interlockledger.iltags.ilint.ILIntException;
+
+/**
+ * This class implements the ILTagDataReader for ByteBuffers. It was designed
+ * to handle direct ByteBuffers, such as the ones used by FileChannels and
+ * SocketChannels, thus it keeps its own read position and reads all primitives
+ * in place using the absolute get methods of the buffer. No temporary buffers
+ * are used. It also works with heap buffers.
+ * 
+ * @since 2026.10.18
+ */
+public class ILByteBufferTagDataReader extends ILBaseTagDataReader {
+
+	private ByteBuffer buffer;
+
+	// Current read position inside buffer
+	private int pos;
+
+	// Position of the end of the data inside buffer
+	private int limit;
+
+	/**
+	 * Creates a new instance of this class.
+	 * 
+	 * @param buff The input buffer. The remaining bytes of buff will be read.
+	 *             This reader shares the same underlying bytes but the position
+	 *             and limits of buff are not changed.
+	 */
+	public ILByteBufferTagDataReader(ByteBuffer buff) {
+		this.bind(buff);
+	}
+
+	@Override
+	protected byte readByteCore() throws ILTagException {
+		if (this.pos >= this.limit) {
+			throw new ILTagNotEnoughDataException("No more bytes to read.");
+		}
+		return this.buffer.get(this.pos++);
+	}
+
+	@Override
+	protected void readBytesCore(byte[] v, int off, int size) throws ILTagException {
+		this.buffer.position(this.use(size));
+		this.buffer.get(v, off, size);
+	}
+
+	@Override
+	public double readDouble() throws ILTagException {
+		this.updateOffset(8);
+		return this.buffer.getDouble(this.use(8));
+	}
+
+	@Override
+	public float readFloat() throws ILTagException {
+		this.updateOffset(4);
+		return this.buffer.getFloat(this.use(4));
+	}
+
+	@Override
+	public long readILInt() throws ILTagException {
+		if (this.pos >= this.limit) {
+			this.updateOffset(1);
+			throw new ILTagNotEnoughDataException("No more bytes to read.");
+		}
+		int size = ILIntCodec.encodedSizeFromHeader(this.buffer.get(this.pos));
+		this.updateOffset(size);
+		this.buffer.position(this.use(size));
+		try {
+			return ILIntCodec.decode(this.buffer);
+		} catch (ILIntException e) {
+			throw new ILTagException(e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public int readInt() throws ILTagException {
+		this.updateOffset(4);
+		return this.buffer.getInt(this.use(4));
+	}
+
+	@Override
+	public long readLong() throws ILTagException {
+		this.updateOffset(8);
+		return this.buffer.getLong(this.use(8));
+	}
+
+	@Override
+	public short readShort() throws ILTagException {
+		this.updateOffset(2);
+		return this.buffer.getShort(this.use(2));
+	}
+
+	@Override
+	public ByteBuffer readSlice(long n) throws ILTagException {
+
+		if (n < 0) {
+			throw new IllegalArgumentException("n cannot be negative.");
+		}
+		this.updateOffset(n);
+		int p = this.use(n);
+		ByteBuffer slice = this.buffer.duplicate();
+		slice.limit(this.pos);
+		slice.position(p);
+		return slice.slice().asReadOnlyBuffer();
+	}
+
+	@Override
+	public String readString(long n) throws ILTagException {
+		byte[] tmp = this.readStringBytes(n);
+		try {
+			return UTF8Utils.decode(tmp, 0, tmp.length);
+		} catch (BufferUnderflowException e) {
+			throw new ILTagNotEnoughDataException("Incomplete UTF-8 character.", e);
+		} catch (IllegalArgumentException e) {
+			throw new ILTagException("Unable to read the string.", e);
+		}
+	}
+
+	@Override
+	public long readString(long n, Appendable v) throws ILTagException {
+		byte[] tmp = this.readStringBytes(n);
+		try {
+			return UTF8Utils.decode(tmp, 0, tmp.length, v);
+		} catch (BufferUnderflowException e) {
+			throw new ILTagNotEnoughDataException("Incomplete UTF-8 character.", e);
+		} catch (IOException | IllegalArgumentException e) {
+			throw new ILTagException("Unable to read the string.", e);
+		}
+	}
+
+	/**
+	 * Binds this reader to a new ByteBuffer and resets its state.
+	 * 
+	 * @param buff The input buffer. The remaining bytes of buff will be read.
+	 */
+	public void reset(ByteBuffer buff) {
+		this.bind(buff);
+		this.reset();
+	}
+
+	@Override
+	protected void skipCore(long n) throws ILTagException {
+		this.use(n);
+	}
+
+	/**
+	 * Binds this reader to the given buffer.
+	 * 
+	 * @param buff The input buffer.
+	 */
+	private void bind(ByteBuffer buff) {
+		this.buffer = buff.duplicate();
+		this.buffer.order(ByteOrder.BIG_ENDIAN);
+		this.pos = buff.position();
+		this.limit = buff.limit();
+	}
+
+	/**
+	 * Reads the bytes of a string with a single bulk transfer.
+	 * 
+	 * @param n The size of the string in bytes.
+	 * @return The bytes of the string.
+	 * @throws ILTagException In case of error.
+	 */
+	private byte[] readStringBytes(long n) throws ILTagException {
+
+		if (n < 0) {
+			throw new IllegalArgumentException("n cannot be negative.");
+		}
+		this.updateOffset(n);
+		int p = this.use(n);
+		byte[] tmp = new byte[(int) n];
+		this.buffer.position(p);
+		this.buffer.get(tmp);
+		return tmp;
+	}
+
+	/**
+	 * Registers the use of n bytes from the buffer.
+	 * 
+	 * @param n The number of bytes to use.
+	 * @return The position of the first byte used.
+	 * @throws ILTagNotEnoughDataException If there are not enough bytes to be read.
+	 */
+	private int use(long n) throws ILTagNotEnoughDataException {
+		int p = this.pos;
+		if (n > this.limit - p) {
+			throw new ILTagNotEnoughDataException("No more bytes to read.");
+		}
+		this.pos = p + (int) n;
+		return p;
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+
+import io.interlockledger.iltags.ILTagException;
+import io.interlockledger.iltags.ilint.ILIntCodec;
+import io.interlockledger.iltags.ilint.ILIntException;
+
+/**
+ * This class implements the ILTagDataWriter for ByteBuffers. It writes all
+ * values in place using the absolute put methods of the buffer, thus it can be
+ * used with both heap and direct ByteBuffers without temporary copies.
+ * 
+ * <p>
+ * The data is written at the position of the target buffer, which is advanced
+ * accordingly. The byte order of the target buffer is not changed. Any attempt
+ * to write past its limit fails with an ILTagTooMuchDataException and nothing
+ * is written.
+ * </p>
+ * 
+ * @since 2026.10.18
+ */
+public class ILByteBufferTagDataWriter extends ILBaseTagDataWriter {
+
+	private ByteBuffer buffer;
+
+	// Big endian view of buffer used by the absolute puts
+	private ByteBuffer view;
+
+	// Scratch area used to encode ILInts before a single bulk put
+	private final byte[] ilintBuffer = new byte[9];
+
+	/**
+	 * Creates a new instance of this class.
+	 * 
+	 * @param buff The target buffer.
+	 * @throws ReadOnlyBufferException If buff is read-only.
+	 */
+	public ILByteBufferTagDataWriter(ByteBuffer buff) {
+		this.bind(buff);
+	}
+
+	/**
+	 * Returns the target buffer.
+	 * 
+	 * @return The target buffer.
+	 */
+	public ByteBuffer getBuffer() {
+		return this.buffer;
+	}
+
+	/**
+	 * Returns the number of bytes that can still be written into the target
+	 * buffer.
+	 * 
+	 * @return The number of bytes available.
+	 */
+	public int getRemaining() {
+		return this.buffer.remaining();
+	}
+
+	/**
+	 * Called when the target buffer does not have enough space to hold the next
+	 * n bytes. This implementation always fails with an
+	 * ILTagTooMuchDataException.
+	 * 
+	 * <p>
+	 * Subclasses may override this method in order to free space in the target
+	 * buffer. In this case, it must return only if at least n bytes are available
+	 * after its execution.
+	 * </p>
+	 * 
+	 * @param n The number of bytes required.
+	 * @throws ILTagException If the required space cannot be made available.
+	 */
+	protected void overflow(int n) throws ILTagException {
+		throw new ILTagTooMuchDataException(
+				String.format("Trying to write %1$d bytes out of %2$d.", n, this.buffer.remaining()));
+	}
+
+	/**
+	 * Binds this writer to a new target buffer and resets its state.
+	 * 
+	 * @param buff The new target buffer.
+	 * @throws ReadOnlyBufferException If buff is read-only.
+	 */
+	public void reset(ByteBuffer buff) {
+		this.bind(buff);
+		this.reset();
+	}
+
+	@Override
+	protected void writeByteCore(byte v) throws ILTagException {
+		int pos = this.reserve(1);
+		this.view.put(pos, v);
+	}
+
+	@Override
+	protected void writeBytesCore(byte[] v, int off, int size) throws ILTagException {
+		if ((off < 0) || (size < 0) || (off > v.length - size)) {
+			throw new IndexOutOfBoundsException();
+		}
+		this.view.position(this.reserve(size));
+		this.view.put(v, off, size);
+	}
+
+	@Override
+	public void writeBytes(ByteBuffer v) throws ILTagException {
+		this.view.position(this.use(v.remaining()));
+		this.view.put(v);
+	}
+
+	@Override
+	public void writeDouble(double v) throws ILTagException {
+		int pos = this.use(8);
+		this.view.putDouble(pos, v);
+	}
+
+	@Override
+	public void writeFloat(float v) throws ILTagException {
+		int pos = this.use(4);
+		this.view.putFloat(pos, v);
+	}
+
+	@Override
+	public void writeILInt(long v) throws ILTagException {
+		int size;
+		try {
+			size = ILIntCodec.encode(v, this.ilintBuffer, 0);
+		} catch (ILIntException e) {
+			throw new ILTagException(e.getMessage(), e);
+		}
+		this.view.position(this.use(size));
+		this.view.put(this.ilintBuffer, 0, size);
+	}
+
+	@Override
+	public void writeInt(int v) throws ILTagException {
+		int pos = this.use(4);
+		this.view.putInt(pos, v);
+	}
+
+	@Override
+	public void writeLong(long v) throws ILTagException {
+		int pos = this.use(8);
+		this.view.putLong(pos, v);
+	}
+
+	@Override
+	public void writeShort(short v) throws ILTagException {
+		int pos = this.use(2);
+		this.view.putShort(pos, v);
+	}
+
+	private void bind(ByteBuffer buff) {
+		if (buff.isReadOnly()) {
+			throw new ReadOnlyBufferException();
+		}
+		this.buffer = buff;
+		this.view = buff.duplicate();
+		this.view.order(ByteOrder.BIG_ENDIAN);
+		this.view.clear();
+	}
+
+	/**
+	 * Reserves n bytes at the position of the target buffer.
+	 * 
+	 * @param n The number of bytes.
+	 * @return The position of the first reserved byte.
+	 * @throws ILTagException If the target buffer is full.
+	 */
+	private int reserve(int n) throws ILTagException {
+		if (n > this.buffer.remaining()) {
+			this.overflow(n);
+		}
+		int pos = this.buffer.position();
+		this.buffer.position(pos + n);
+		return pos;
+	}
+
+	/**
+	 * Reserves n bytes at the position of the target buffer and updates the
+	 * offset.
+	 * 
+	 * @param n The number of bytes.
+	 * @return The position of the first reserved byte.
+	 * @throws ILTagException If the target buffer is full.
+	 */
+	private int use(int n) throws ILTagException {
+		int pos = this.reserve(n);
+		this.updateOffset(n);
+		return pos;
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import io.interlockledger.iltags.ILTagException;
+
+/**
+ * This class implements an ILTagDataWriter for WritableByteChannels. All
+ * values are staged into a ByteBuffer, direct by default, that is drained into
+ * the channel whenever it becomes full. Large byte arrays and buffers are sent
+ * directly to the channel.
+ * 
+ * <p>
+ * The staging buffer is owned by this writer. Data is sent to the channel
+ * only when the buffer is full or when flush() or close() are called. The
+ * channel is expected to be in blocking mode.
+ * </p>
+ * 
+ * @since 2026.10.18
+ */
+public class ILChannelTagDataWriter extends ILByteBufferTagDataWriter implements Closeable {
+
+	/**
+	 * Default size of the staging buffer.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	/**
+	 * Minimum size of the staging buffer.
+	 */
+	public static final int MIN_BUFFER_SIZE = 16;
+
+	private final WritableByteChannel channel;
+
+	/**
+	 * Creates a new instance of this class with a direct staging buffer of
+	 * DEFAULT_BUFFER_SIZE bytes.
+	 * 
+	 * @param channel The target channel.
+	 */
+	public ILChannelTagDataWriter(WritableByteChannel channel) {
+		this(channel, ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE));
+	}
+
+	/**
+	 * Creates a new instance of this class.
+	 * 
+	 * @param channel The target channel.
+	 * @param buff    The staging buffer. Its contents are discarded.
+	 * @throws IllegalArgumentException If the capacity of buff is smaller than
+	 *                                  MIN_BUFFER_SIZE.
+	 */
+	public ILChannelTagDataWriter(WritableByteChannel channel, ByteBuffer buff) {
+		super(checkBuffer(buff));
+		buff.clear();
+		this.channel = channel;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			this.flush();
+		} finally {
+			this.channel.close();
+		}
+	}
+
+	/**
+	 * Sends all staged data to the channel.
+	 * 
+	 * @throws IOException In case of I/O error.
+	 */
+	public void flush() throws IOException {
+		ByteBuffer buff = this.getBuffer();
+		buff.flip();
+		try {
+			this.writeFully(buff);
+		} finally {
+			buff.compact();
+		}
+	}
+
+	/**
+	 * Returns the target channel.
+	 * 
+	 * @return The target channel.
+	 */
+	public WritableByteChannel getChannel() {
+		return this.channel;
+	}
+
+	@Override
+	protected void overflow(int n) throws ILTagException {
+		try {
+			this.flush();
+		} catch (IOException e) {
+			throw new ILTagException(e.getMessage(), e);
+		}
+		if (n > this.getBuffer().remaining()) {
+			super.overflow(n);
+		}
+	}
+
+	@Override
+	protected void writeBytesCore(byte[] v, int off, int size) throws ILTagException {
+		if (size > this.getBuffer().capacity()) {
+			this.writeDirect(ByteBuffer.wrap(v, off, size));
+		} else {
+			super.writeBytesCore(v, off, size);
+		}
+	}
+
+	@Override
+	public void writeBytes(ByteBuffer v) throws ILTagException {
+		if (v.remaining() > this.getBuffer().capacity()) {
+			int size = v.remaining();
+			this.writeDirect(v);
+			this.updateOffset(size);
+		} else {
+			super.writeBytes(v);
+		}
+	}
+
+	private static ByteBuffer checkBuffer(ByteBuffer buff) {
+		if (buff.capacity() < MIN_BUFFER_SIZE) {
+			throw new IllegalArgumentException(
+					String.format("The buffer must have at least %1$d bytes.", MIN_BUFFER_SIZE));
+		}
+		return buff;
+	}
+
+	private void writeDirect(ByteBuffer v) throws ILTagException {
+		try {
+			this.flush();
+			this.writeFully(v);
+		} catch (IOException e) {
+			throw new ILTagException(e.getMessage(), e);
+		}
+	}
+
+	private void writeFully(ByteBuffer v) throws IOException {
+		while (v.hasRemaining()) {
+			this.channel.write(v);
+		}
+	}
+}
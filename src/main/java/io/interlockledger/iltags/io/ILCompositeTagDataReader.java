@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import io.interlockledger.iltags.ILTagException;
+import io.interlockledger.iltags.ilint.ILIntCodec;
+import io.interlockledger.iltags.ilint.ILIntException;
+
+/**
+ * This class implements the ILTagDataReader over a sequence of ByteBuffers.
+ * The fragments are read in order as if they were a single contiguous buffer,
+ * thus values may cross the boundaries between fragments without the need to
+ * consolidate them into a single buffer.
+ * 
+ * @since 2026.10.18
+ */
+public class ILCompositeTagDataReader extends ILBaseTagDataReader {
+
+	private final ByteBuffer[] buffers;
+
+	// Index of the current fragment
+	private int index;
+
+	private ByteBuffer current;
+
+	/**
+	 * Creates a new instance of this class.
+	 * 
+	 * @param buffers The input fragments. They will share the same underlying
+	 *                bytes but the positions and limits will be independent.
+	 */
+	public ILCompositeTagDataReader(ByteBuffer... buffers) {
+		this.buffers = new ByteBuffer[buffers.length];
+		for (int i = 0; i < buffers.length; i++) {
+			this.buffers[i] = buffers[i].duplicate();
+			this.buffers[i].order(ByteOrder.BIG_ENDIAN);
+		}
+		this.index = 0;
+		this.current = (buffers.length > 0) ? this.buffers[0] : ByteBuffer.allocate(0);
+	}
+
+	/**
+	 * Returns the number of bytes not read yet from all fragments. It does not
+	 * take the current limit into consideration.
+	 * 
+	 * @return The number of bytes available.
+	 */
+	public long getAvailable() {
+		long available = this.current.remaining();
+		for (int i = this.index + 1; i < this.buffers.length; i++) {
+			available += this.buffers[i].remaining();
+		}
+		return available;
+	}
+
+	@Override
+	protected byte readByteCore() throws ILTagException {
+		if (!this.current.hasRemaining()) {
+			this.nextFragment();
+		}
+		return this.current.get();
+	}
+
+	@Override
+	protected void readBytesCore(byte[] v, int off, int size) throws ILTagException {
+
+		while (size > 0) {
+			if (!this.current.hasRemaining()) {
+				this.nextFragment();
+			}
+			int n = Math.min(size, this.current.remaining());
+			this.current.get(v, off, n);
+			off += n;
+			size -= n;
+		}
+	}
+
+	@Override
+	public double readDouble() throws ILTagException {
+		if (this.current.remaining() >= 8) {
+			this.updateOffset(8);
+			return this.current.getDouble();
+		}
+		return super.readDouble();
+	}
+
+	@Override
+	public float readFloat() throws ILTagException {
+		if (this.current.remaining() >= 4) {
+			this.updateOffset(4);
+			return this.current.getFloat();
+		}
+		return super.readFloat();
+	}
+
+	@Override
+	public long readILInt() throws ILTagException {
+		if (this.current.hasRemaining()) {
+			int size = ILIntCodec.encodedSizeFromHeader(this.current.get(this.current.position()));
+			if (this.current.remaining() >= size) {
+				this.updateOffset(size);
+				try {
+					return ILIntCodec.decode(this.current);
+				} catch (ILIntException e) {
+					throw new ILTagException(e.getMessage(), e);
+				}
+			}
+		}
+		return super.readILInt();
+	}
+
+	@Override
+	public int readInt() throws ILTagException {
+		if (this.current.remaining() >= 4) {
+			this.updateOffset(4);
+			return this.current.getInt();
+		}
+		return super.readInt();
+	}
+
+	@Override
+	public long readLong() throws ILTagException {
+		if (this.current.remaining() >= 8) {
+			this.updateOffset(8);
+			return this.current.getLong();
+		}
+		return super.readLong();
+	}
+
+	@Override
+	public short readShort() throws ILTagException {
+		if (this.current.remaining() >= 2) {
+			this.updateOffset(2);
+			return this.current.getShort();
+		}
+		return super.readShort();
+	}
+
+	@Override
+	public ByteBuffer readSlice(long n) throws ILTagException {
+		if ((n >= 0) && (n <= this.current.remaining())) {
+			this.updateOffset(n);
+			ByteBuffer slice = this.current.slice();
+			slice.limit((int) n);
+			this.current.position(this.current.position() + (int) n);
+			return slice.asReadOnlyBuffer();
+		}
+		return super.readSlice(n);
+	}
+
+	@Override
+	protected void skipCore(long n) throws ILTagException {
+
+		if (n > this.getAvailable()) {
+			throw new ILTagNotEnoughDataException("No more bytes to read.");
+		}
+		while (n > 0) {
+			if (!this.current.hasRemaining()) {
+				this.nextFragment();
+			}
+			int s = (int) Math.min(n, this.current.remaining());
+			this.current.position(this.current.position() + s);
+			n -= s;
+		}
+	}
+
+	/**
+	 * Moves to the next fragment that still has bytes to be read.
+	 * 
+	 * @throws ILTagNotEnoughDataException If there are no more bytes to be read.
+	 */
+	private void nextFragment() throws ILTagNotEnoughDataException {
+
+		while (this.index + 1 < this.buffers.length) {
+			this.index++;
+			this.current = this.buffers[this.index];
+			if (this.current.hasRemaining()) {
+				return;
+			}
+		}
+		throw new ILTagNotEnoughDataException("No more bytes to read.");
+	}
+}
@@ -29,7 +29,7 @@ import io.interlockledger.iltags.ILTagException;
  */
 public class ILInputStreamTagDataReader extends ILBaseTagDataReader implements Closeable {
 
-	protected final InputStream in;
+	protected InputStream in;
 
 	/**
 	 * Creates a new instance of this class.
@@ -76,6 +76,18 @@ public class ILInputStreamTagDataReader extends ILBaseTagDataReader implements C
 		}
 	}
 
+	/**
+	 * Binds this reader to a new input stream and resets its state. The previous
+	 * input stream is not closed.
+	 * 
+	 * @param in The new underlying input stream.
+	 * @since 2026.10.18
+	 */
+	public void reset(InputStream in) {
+		this.in = in;
+		this.reset();
+	}
+
 	@Override
 	protected void skipCore(long n) throws ILTagException {
 
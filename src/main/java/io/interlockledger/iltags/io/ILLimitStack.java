@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import java.util.Arrays;
+
+/**
+ * Stack of read limits used by the ILTagDataReader implementations. It uses a
+ * growable long[] in order to avoid boxing on every push.
+ * 
+ * @since 2026.10.18
+ */
+final class ILLimitStack {
+
+	private long[] limits = new long[16];
+
+	private int size = 0;
+
+	private int maxDepth = ILBaseTagDataReader.DEFAULT_MAX_LIMIT_DEPTH;
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear() {
+		this.size = 0;
+	}
+
+	/**
+	 * Returns the maximum number of entries.
+	 * 
+	 * @return The maximum number of entries.
+	 */
+	public int getMaxDepth() {
+		return this.maxDepth;
+	}
+
+	/**
+	 * Verifies if this stack is empty.
+	 * 
+	 * @return true if it is empty or false otherwise.
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Removes the top entry.
+	 * 
+	 * @return The value removed.
+	 * @throws IllegalStateException If the stack is empty.
+	 */
+	public long pop() {
+		if (this.size == 0) {
+			throw new IllegalStateException("No limits to pop.");
+		}
+		this.size--;
+		return this.limits[this.size];
+	}
+
+	/**
+	 * Adds a new entry.
+	 * 
+	 * @param limit The value to add.
+	 * @throws IllegalArgumentException If the maximum depth was reached.
+	 */
+	public void push(long limit) {
+		if (this.size >= this.maxDepth) {
+			throw new IllegalArgumentException("Too many nested limits.");
+		}
+		if (this.size == this.limits.length) {
+			this.limits = Arrays.copyOf(this.limits, Math.min(this.limits.length * 2, this.maxDepth));
+		}
+		this.limits[this.size] = limit;
+		this.size++;
+	}
+
+	/**
+	 * Sets the maximum number of entries.
+	 * 
+	 * @param maxDepth The maximum number of entries.
+	 * @throws IllegalArgumentException If maxDepth is smaller than 1 or smaller
+	 *                                  than the current number of entries.
+	 */
+	public void setMaxDepth(int maxDepth) {
+		if ((maxDepth < 1) || (maxDepth < this.size)) {
+			throw new IllegalArgumentException("Invalid maximum limit depth.");
+		}
+		this.maxDepth = maxDepth;
+	}
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import io.interlockledger.iltags.ILTagException;
+import io.interlockledger.iltags.ilint.ILIntCodec;
+import io.interlockledger.iltags.ilint.ILIntException;
+
+/**
+ * This class implements the ILTagDataReader over a memory-mapped file. The
+ * file is mapped in read-only segments on demand, thus it can read files
+ * larger than 2GB. Values that cross the boundary between two segments are
+ * handled transparently.
+ * 
+ * <p>
+ * The size of the file is determined when this instance is created. Data
+ * appended to the file after that will not be visible to this reader.
+ * </p>
+ * 
+ * @since 2026.10.18
+ */
+public class ILMappedFileTagDataReader extends ILBaseTagDataReader implements Closeable {
+
+	/**
+	 * The default size of each mapped segment.
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 256 * 1024 * 1024;
+
+	/**
+	 * The minimum size of each mapped segment.
+	 */
+	public static final int MIN_SEGMENT_SIZE = 16;
+
+	private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+	protected final FileChannel channel;
+
+	private final long size;
+
+	private final int segmentSize;
+
+	// The current segment. Its position is the current position.
+	private ByteBuffer segment = EMPTY;
+
+	// Position of the current segment inside the file
+	private long segmentStart = 0;
+
+	/**
+	 * Creates a new instance of this class with the default segment size.
+	 * 
+	 * @param channel The file channel. It will be closed by close().
+	 * @throws IOException In case of I/O error.
+	 */
+	public ILMappedFileTagDataReader(FileChannel channel) throws IOException {
+		this(channel, DEFAULT_SEGMENT_SIZE);
+	}
+
+	/**
+	 * Creates a new instance of this class.
+	 * 
+	 * @param channel     The file channel. It will be closed by close().
+	 * @param segmentSize The size of each mapped segment.
+	 * @throws IOException              In case of I/O error.
+	 * @throws IllegalArgumentException If segmentSize is smaller than
+	 *                                  MIN_SEGMENT_SIZE.
+	 */
+	public ILMappedFileTagDataReader(FileChannel channel, int segmentSize) throws IOException {
+		if (segmentSize < MIN_SEGMENT_SIZE) {
+			throw new IllegalArgumentException("Invalid segment size.");
+		}
+		this.channel = channel;
+		this.segmentSize = segmentSize;
+		this.size = channel.size();
+	}
+
+	/**
+	 * Creates a new instance of this class with the default segment size.
+	 * 
+	 * @param file The file to be read.
+	 * @throws IOException In case of I/O error.
+	 */
+	public ILMappedFileTagDataReader(Path file) throws IOException {
+		this(FileChannel.open(file, StandardOpenOption.READ));
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.segment = EMPTY;
+		this.channel.close();
+	}
+
+	/**
+	 * Returns the size of each mapped segment.
+	 * 
+	 * @return The size of each mapped segment.
+	 */
+	public int getSegmentSize() {
+		return this.segmentSize;
+	}
+
+	/**
+	 * Returns the size of the file. It can be compared with getOffset() in order
+	 * to determine if all tags were read.
+	 * 
+	 * @return The size of the file in bytes.
+	 */
+	public long getSize() {
+		return this.size;
+	}
+
+	@Override
+	protected byte readByteCore() throws ILTagException {
+		if (!this.segment.hasRemaining()) {
+			this.nextSegment();
+		}
+		return this.segment.get();
+	}
+
+	@Override
+	protected void readBytesCore(byte[] v, int off, int size) throws ILTagException {
+
+		while (size > 0) {
+			if (!this.segment.hasRemaining()) {
+				this.nextSegment();
+			}
+			int n = Math.min(size, this.segment.remaining());
+			this.segment.get(v, off, n);
+			off += n;
+			size -= n;
+		}
+	}
+
+	@Override
+	public double readDouble() throws ILTagException {
+		if (this.segment.remaining() >= 8) {
+			this.updateOffset(8);
+			return this.segment.getDouble();
+		}
+		return super.readDouble();
+	}
+
+	@Override
+	public float readFloat() throws ILTagException {
+		if (this.segment.remaining() >= 4) {
+			this.updateOffset(4);
+			return this.segment.getFloat();
+		}
+		return super.readFloat();
+	}
+
+	@Override
+	public long readILInt() throws ILTagException {
+		if (this.segment.hasRemaining()) {
+			int size = ILIntCodec.encodedSizeFromHeader(this.segment.get(this.segment.position()));
+			if (this.segment.remaining() >= size) {
+				this.updateOffset(size);
+				try {
+					return ILIntCodec.decode(this.segment);
+				} catch (ILIntException e) {
+					throw new ILTagException(e.getMessage(), e);
+				}
+			}
+		}
+		return super.readILInt();
+	}
+
+	@Override
+	public int readInt() throws ILTagException {
+		if (this.segment.remaining() >= 4) {
+			this.updateOffset(4);
+			return this.segment.getInt();
+		}
+		return super.readInt();
+	}
+
+	@Override
+	public long readLong() throws ILTagException {
+		if (this.segment.remaining() >= 8) {
+			this.updateOffset(8);
+			return this.segment.getLong();
+		}
+		return super.readLong();
+	}
+
+	@Override
+	public short readShort() throws ILTagException {
+		if (this.segment.remaining() >= 2) {
+			this.updateOffset(2);
+			return this.segment.getShort();
+		}
+		return super.readShort();
+	}
+
+	@Override
+	public ByteBuffer readSlice(long n) throws ILTagException {
+		if ((n >= 0) && (n <= this.segment.remaining())) {
+			this.updateOffset(n);
+			ByteBuffer slice = this.segment.slice();
+			slice.limit((int) n);
+			this.segment.position(this.segment.position() + (int) n);
+			return slice.asReadOnlyBuffer();
+		}
+		return super.readSlice(n);
+	}
+
+	@Override
+	protected void skipCore(long n) throws ILTagException {
+
+		long position = this.segmentStart + this.segment.position();
+		if (n > this.size - position) {
+			throw new ILTagNotEnoughDataException("Unexpected end of file.");
+		}
+		if (n <= this.segment.remaining()) {
+			this.segment.position(this.segment.position() + (int) n);
+		} else {
+			this.segment = EMPTY;
+			this.segmentStart = position + n;
+		}
+	}
+
+	/**
+	 * Maps the segment that starts at the current position.
+	 * 
+	 * @throws ILTagException In case of error or if the end of the file was
+	 *                        reached.
+	 */
+	private void nextSegment() throws ILTagException {
+
+		long position = this.segmentStart + this.segment.position();
+		long n = Math.min(this.segmentSize, this.size - position);
+		if (n <= 0) {
+			throw new ILTagNotEnoughDataException("Unexpected end of file.");
+		}
+		try {
+			this.segment = this.channel.map(FileChannel.MapMode.READ_ONLY, position, n);
+			this.segmentStart = position;
+		} catch (IOException e) {
+			throw new ILTagException(e.getMessage(), e);
+		}
+	}
+}
@@ -15,9 +15,13 @@
  */
 package io.interlockledger.iltags.io;
 
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 
 import io.interlockledger.iltags.ILTagException;
+import io.interlockledger.iltags.ilint.ILIntCodec;
+import io.interlockledger.iltags.ilint.ILIntException;
 
 /**
  * This class implements the ILTagDataReader for memory.
@@ -79,6 +83,142 @@ public class ILMemoryTagDataReader extends ILBaseTagDataReader {
 		}
 	}
 
+	@Override
+	public long readILInt() throws ILTagException {
+
+		// Decode in place whenever the backing array is accessible
+		if ((!this.buffer.hasArray()) || (!this.buffer.hasRemaining())) {
+			return super.readILInt();
+		}
+		int pos = this.buffer.position();
+		int start = this.buffer.arrayOffset() + pos;
+		byte[] array = this.buffer.array();
+		int size = ILIntCodec.encodedSizeFromHeader(array[start]);
+		this.updateOffset(size);
+		if (size > this.buffer.remaining()) {
+			throw new ILTagNotEnoughDataException("No more bytes to read.");
+		}
+		try {
+			long v = ILIntCodec.decode(array, start, start + size);
+			this.buffer.position(pos + size);
+			return v;
+		} catch (ILIntException e) {
+			throw new ILTagException(e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public ByteBuffer readSlice(long n) throws ILTagException {
+
+		if (n < 0) {
+			throw new IllegalArgumentException("n cannot be negative.");
+		}
+		this.updateOffset(n);
+		if (n > this.buffer.remaining()) {
+			throw new ILTagNotEnoughDataException("No more bytes to read.");
+		}
+		ByteBuffer slice = this.buffer.slice();
+		slice.limit((int) n);
+		this.buffer.position(this.buffer.position() + (int) n);
+		return slice.asReadOnlyBuffer();
+	}
+
+	@Override
+	public String readString(long n) throws ILTagException {
+		if (!this.buffer.hasArray()) {
+			return super.readString(n);
+		}
+		int p = this.useString(n);
+		try {
+			return UTF8Utils.decode(this.buffer.array(), p, (int) n);
+		} catch (BufferUnderflowException e) {
+			throw new ILTagNotEnoughDataException("Incomplete UTF-8 character.", e);
+		} catch (IllegalArgumentException e) {
+			throw new ILTagException("Unable to read the string.", e);
+		}
+	}
+
+	@Override
+	public long readString(long n, Appendable v) throws ILTagException {
+		if (!this.buffer.hasArray()) {
+			return super.readString(n, v);
+		}
+		int p = this.useString(n);
+		try {
+			return UTF8Utils.decode(this.buffer.array(), p, (int) n, v);
+		} catch (BufferUnderflowException e) {
+			throw new ILTagNotEnoughDataException("Incomplete UTF-8 character.", e);
+		} catch (IOException | IllegalArgumentException e) {
+			throw new ILTagException("Unable to read the string.", e);
+		}
+	}
+
+	/**
+	 * Binds this reader to a new byte array and resets its state.
+	 * 
+	 * @param data The input buffer.
+	 * @since 2026.10.18
+	 */
+	public void reset(byte[] data) {
+		this.reset(data, 0, data.length);
+	}
+
+	/**
+	 * Binds this reader to a new byte array and resets its state. If data is the
+	 * array already used by this reader, the current ByteBuffer is reused.
+	 * 
+	 * @param data The input buffer.
+	 * @param offs The initial offset.
+	 * @param size The number of bytes.
+	 * @throws IndexOutOfBoundsException If offs and size are not valid.
+	 * @since 2026.10.18
+	 */
+	public void reset(byte[] data, int offs, int size) {
+		if ((this.buffer.hasArray()) && (this.buffer.array() == data) && (this.buffer.arrayOffset() == 0)
+				&& (!this.buffer.isReadOnly())) {
+			if ((offs < 0) || (size < 0) || (offs > data.length - size)) {
+				throw new IndexOutOfBoundsException();
+			}
+			this.buffer.clear();
+			this.buffer.position(offs);
+			this.buffer.limit(offs + size);
+		} else {
+			this.buffer = ByteBuffer.wrap(data, offs, size);
+		}
+		this.reset();
+	}
+
+	/**
+	 * Binds this reader to a new ByteBuffer and resets its state.
+	 * 
+	 * @param buff The input buffer. It will share the same underlying bytes but the
+	 *             position and limits will be independent.
+	 * @since 2026.10.18
+	 */
+	public void reset(ByteBuffer buff) {
+		this.buffer = buff.duplicate();
+		this.reset();
+	}
+
+	@Override
+	public void skipILInt(long n) throws ILTagException {
+
+		if ((!this.buffer.hasArray()) || (n <= 0)) {
+			super.skipILInt(n);
+			return;
+		}
+		int pos = this.buffer.position();
+		int start = this.buffer.arrayOffset() + pos;
+		int limit = start + (int) Math.min(this.buffer.remaining(), this.getRemaining());
+		try {
+			int size = ILIntCodec.skip(this.buffer.array(), start, limit, n);
+			this.updateOffset(size);
+			this.buffer.position(pos + size);
+		} catch (ILIntException e) {
+			throw new ILTagNotEnoughDataException(e.getMessage(), e);
+		}
+	}
+
 	@Override
 	protected void skipCore(long n) throws ILTagException {
 
@@ -93,4 +233,27 @@ public class ILMemoryTagDataReader extends ILBaseTagDataReader {
 		}
 		this.buffer.position((int) (this.buffer.position() + n));
 	}
+
+	/**
+	 * Registers the use of the n bytes of a string. The backing array must be
+	 * accessible.
+	 * 
+	 * @param n The size of the string in bytes.
+	 * @return The position of the first byte of the string inside the backing
+	 *         array.
+	 * @throws ILTagNotEnoughDataException If there are not enough bytes to be read.
+	 */
+	private int useString(long n) throws ILTagNotEnoughDataException {
+
+		if (n < 0) {
+			throw new IllegalArgumentException("n cannot be negative.");
+		}
+		this.updateOffset(n);
+		if (n > this.buffer.remaining()) {
+			throw new ILTagNotEnoughDataException("No more bytes to read.");
+		}
+		int pos = this.buffer.position();
+		this.buffer.position(pos + (int) n);
+		return this.buffer.arrayOffset() + pos;
+	}
 }
@@ -39,6 +39,18 @@ public class ILMemoryTagDataWriter extends ILBaseTagDataWriter {
 		this.out = new ByteArrayOutputStream();
 	}
 
+	/**
+	 * Discards the contents of this writer and resets its state. The internal
+	 * buffer is kept, thus it can be reused without new allocations.
+	 * 
+	 * @since 2026.10.18
+	 */
+	@Override
+	public void reset() {
+		this.out.reset();
+		super.reset();
+	}
+
 	/**
 	 * Returns the contents o this writer as a byte array.
 	 * 
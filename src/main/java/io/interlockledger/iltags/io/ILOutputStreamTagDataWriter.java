@@ -52,12 +52,24 @@ public class ILOutputStreamTagDataWriter extends ILBaseTagDataWriter implements
 		this.out.flush();
 	}
 
+	/**
+	 * Binds this writer to a new output stream and resets its state. The previous
+	 * output stream is neither flushed nor closed.
+	 * 
+	 * @param out The new underlying output stream.
+	 * @since 2026.10.18
+	 */
+	public void reset(OutputStream out) {
+		this.out = out;
+		this.reset();
+	}
+
 	@Override
 	protected void writeByteCore(byte v) throws ILTagException {
 		try {
 			this.out.write(v & 0xFF);
 		} catch (IOException e) {
-			throw new ILTagException(e.getMessage());
+			throw new ILTagException(e.getMessage(), e);
 		}
 	}
 
@@ -66,7 +78,7 @@ public class ILOutputStreamTagDataWriter extends ILBaseTagDataWriter implements
 		try {
 			this.out.write(v, off, size);
 		} catch (IOException e) {
-			throw new ILTagException(e.getMessage());
+			throw new ILTagException(e.getMessage(), e);
 		}
 	}
 }
@@ -15,7 +15,10 @@
  */
 package io.interlockledger.iltags.io;
 
+import java.nio.ByteBuffer;
+
 import io.interlockledger.iltags.ILTagException;
+import io.interlockledger.iltags.ilint.ILIntCodec;
 
 /**
  * This is the interface of the data reader for the ILTags.
@@ -143,6 +146,44 @@ public interface ILTagDataReader {
 	 */
 	public short readShort() throws ILTagException;
 
+	/**
+	 * Reads n bytes as a read-only ByteBuffer. Readers backed by memory return a
+	 * view of the underlying bytes without copying them, other readers return a
+	 * copy of the bytes read.
+	 * 
+	 * <p>
+	 * The returned buffer uses big endian byte order, its position is 0 and its
+	 * limit is n. Views remain valid only while the memory that backs the reader
+	 * is not changed.
+	 * </p>
+	 * 
+	 * <p>
+	 * This default implementation copies the bytes into a new array with
+	 * readBytes(byte[]).
+	 * </p>
+	 * 
+	 * @param n The number of bytes to read.
+	 * @return The bytes read.
+	 * @throws ILTagException In case of error.
+	 * @since 2026.10.18
+	 */
+	public default ByteBuffer readSlice(long n) throws ILTagException {
+
+		if (n < 0) {
+			throw new IllegalArgumentException("n cannot be negative.");
+		}
+		if (n > Integer.MAX_VALUE) {
+			throw new ILTagException("The slice is too large for this implementation.");
+		}
+		if ((this.isLimited()) && (n > this.getRemaining())) {
+			throw new ILTagNotEnoughDataException(
+					String.format("Trying to read %1$d bytes out of %2$d.", n, this.getRemaining()));
+		}
+		byte[] v = new byte[(int) n];
+		this.readBytes(v);
+		return ByteBuffer.wrap(v).asReadOnlyBuffer();
+	}
+
 	/**
 	 * Reads a n bytes and converts it into a UTF-8 string.
 	 * 
@@ -170,4 +211,31 @@ public interface ILTagDataReader {
 	 * @throws ILTagException In case of error.
 	 */
 	public void skip(long n) throws ILTagException;
+
+	/**
+	 * Skips n ILInts. Only the headers of the values are inspected, thus the
+	 * skipped values are not validated.
+	 * 
+	 * <p>
+	 * This default implementation reads the header of each value with readByte()
+	 * and skips the remaining bytes with skip(long). Implementations are
+	 * encouraged to provide faster versions.
+	 * </p>
+	 * 
+	 * @param n Number of ILInts to skip.
+	 * @throws ILTagException In case of error.
+	 * @since 2026.10.18
+	 */
+	public default void skipILInt(long n) throws ILTagException {
+
+		if (n < 0) {
+			throw new IllegalArgumentException("n cannot be negative.");
+		}
+		for (; n > 0; n--) {
+			int size = ILIntCodec.encodedSizeFromHeader(this.readByte());
+			if (size > 1) {
+				this.skip(size - 1);
+			}
+		}
+	}
 }
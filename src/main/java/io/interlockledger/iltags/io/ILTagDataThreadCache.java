@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+/**
+ * This class keeps one reusable reader and one reusable writer per thread. It
+ * allows a thread to decode and encode any number of messages without
+ * allocating new readers or writers.
+ * 
+ * <p>
+ * The instances returned by this class are reset and rebound on every call
+ * performed by the same thread, thus they must not be shared with other
+ * threads or kept after the processing of the current message. Nested uses in
+ * the same thread must create their own instances.
+ * </p>
+ * 
+ * <p>
+ * Writers that grow beyond MAX_RETAINED_CAPACITY are replaced by new ones on
+ * the next call to getWriter(), thus a single large message does not pin a
+ * large buffer to the thread forever.
+ * </p>
+ * 
+ * @since 2026.10.18
+ */
+public final class ILTagDataThreadCache {
+
+	/**
+	 * The maximum capacity of a writer kept between calls to getWriter().
+	 */
+	public static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+	private static final byte[] EMPTY = new byte[0];
+
+	private static final ThreadLocal<ILByteArrayTagDataReader> READER = new ThreadLocal<ILByteArrayTagDataReader>() {
+		@Override
+		protected ILByteArrayTagDataReader initialValue() {
+			return new ILByteArrayTagDataReader(EMPTY);
+		}
+	};
+
+	private static final ThreadLocal<ILByteArrayTagDataWriter> WRITER = new ThreadLocal<ILByteArrayTagDataWriter>() {
+		@Override
+		protected ILByteArrayTagDataWriter initialValue() {
+			return new ILByteArrayTagDataWriter();
+		}
+	};
+
+	/**
+	 * Returns the reader of the current thread bound to the given data.
+	 * 
+	 * @param data The input buffer.
+	 * @return The reader of the current thread.
+	 */
+	public static ILByteArrayTagDataReader getReader(byte[] data) {
+		return getReader(data, 0, data.length);
+	}
+
+	/**
+	 * Returns the reader of the current thread bound to the given data.
+	 * 
+	 * @param data The input buffer.
+	 * @param off  The initial offset.
+	 * @param size The number of bytes.
+	 * @return The reader of the current thread.
+	 * @throws IndexOutOfBoundsException If off and size are not valid.
+	 */
+	public static ILByteArrayTagDataReader getReader(byte[] data, int off, int size) {
+		ILByteArrayTagDataReader r = READER.get();
+		r.reset(data, off, size);
+		return r;
+	}
+
+	/**
+	 * Returns the writer of the current thread. It is always empty. If the
+	 * previous writer has grown beyond MAX_RETAINED_CAPACITY, it is replaced by a
+	 * new one with the default capacity.
+	 * 
+	 * @return The writer of the current thread.
+	 */
+	public static ILByteArrayTagDataWriter getWriter() {
+		ILByteArrayTagDataWriter w = WRITER.get();
+		if (w.getCapacity() > MAX_RETAINED_CAPACITY) {
+			w = new ILByteArrayTagDataWriter();
+			WRITER.set(w);
+		} else {
+			w.reset();
+		}
+		return w;
+	}
+
+	/**
+	 * Rebinds the reader of the current thread to an empty array. It allows the
+	 * last input buffer to be garbage collected.
+	 */
+	public static void release() {
+		READER.get().reset(EMPTY, 0, 0);
+	}
+
+	private ILTagDataThreadCache() {
+	}
+}
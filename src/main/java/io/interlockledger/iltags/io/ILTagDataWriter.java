@@ -15,6 +15,8 @@
  */
 package io.interlockledger.iltags.io;
 
+import java.nio.ByteBuffer;
+
 import io.interlockledger.iltags.ILTagException;
 
 /**
@@ -58,6 +60,29 @@ public interface ILTagDataWriter {
 	 */
 	public void writeBytes(byte[] v, int off, int size) throws ILTagException;
 
+	/**
+	 * Writes all remaining bytes of a ByteBuffer. The position of v is moved to
+	 * its limit.
+	 * 
+	 * <p>
+	 * This default implementation copies the bytes in chunks and writes them with
+	 * writeBytes(byte[], int, int).
+	 * </p>
+	 * 
+	 * @param v The bytes to be written.
+	 * @throws ILTagException In case of error.
+	 * @since 2026.10.18
+	 */
+	public default void writeBytes(ByteBuffer v) throws ILTagException {
+
+		byte[] chunk = new byte[Math.min(v.remaining(), 8192)];
+		while (v.hasRemaining()) {
+			int size = Math.min(chunk.length, v.remaining());
+			v.get(chunk, 0, size);
+			this.writeBytes(chunk, 0, size);
+		}
+	}
+
 	/**
 	 * Writes a 64-bit single precision floating point in IEEE 754-2008 format.
 	 * 
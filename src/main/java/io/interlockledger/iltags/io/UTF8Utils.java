@@ -15,6 +15,8 @@
  */
 package io.interlockledger.iltags.io;
 
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
 import java.nio.CharBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
@@ -69,6 +71,104 @@ public class UTF8Utils {
 		}
 	}
 
+	/**
+	 * Decodes a sequence of UTF-8 encoded characters into a char array in a single
+	 * pass. Characters are validated exactly as done by
+	 * getUTF8EncodedCharSize(byte) and toCodepoint(byte[], int), and codepoints
+	 * outside of the BMP are converted into surrogate pairs.
+	 * 
+	 * @param src    The source buffer.
+	 * @param off    The offset of the first byte.
+	 * @param len    The number of bytes to decode.
+	 * @param dst    The destination buffer. It must be able to hold at least len
+	 *               characters.
+	 * @param dstOff The offset in dst.
+	 * @return The number of characters written into dst.
+	 * @throws IllegalArgumentException If the encoding is invalid.
+	 * @throws BufferUnderflowException If the last character is incomplete.
+	 * @since 2026.10.18
+	 */
+	public static int decode(byte[] src, int off, int len, char[] dst, int dstOff) {
+		int end = off + len;
+		int p = off;
+		int d = dstOff;
+
+		while (p < end) {
+			// ASCII fast path
+			byte b = src[p];
+			if (b >= 0) {
+				dst[d++] = (char) b;
+				p++;
+				continue;
+			}
+			int size = getUTF8EncodedCharSize(b);
+			if (size > end - p) {
+				throw new BufferUnderflowException();
+			}
+			int cp = b & UTF8_1ST_CLEAR_MASK[size - 1];
+			for (int i = 1; i < size; i++) {
+				int v = src[p + i] & 0xFF;
+				if ((v & 0b11000000) != 0b10000000) {
+					throw new IllegalArgumentException("Invalid encoded character.");
+				}
+				cp = (cp << 6) | (v & 0b00111111);
+			}
+			if (cp < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+				dst[d++] = (char) cp;
+			} else if (cp <= Character.MAX_CODE_POINT) {
+				dst[d++] = Character.highSurrogate(cp);
+				dst[d++] = Character.lowSurrogate(cp);
+			} else {
+				throw new IllegalArgumentException("Invalid codepoint.");
+			}
+			p += size;
+		}
+		return d - dstOff;
+	}
+
+	/**
+	 * Decodes a sequence of UTF-8 encoded characters and appends them to an
+	 * Appendable. See decode(byte[], int, int, char[], int) for further details.
+	 * 
+	 * @param src The source buffer.
+	 * @param off The offset of the first byte.
+	 * @param len The number of bytes to decode.
+	 * @param dst The Appendable that will receive the characters.
+	 * @return The number of characters appended.
+	 * @throws IOException              If dst fails.
+	 * @throws IllegalArgumentException If the encoding is invalid.
+	 * @throws BufferUnderflowException If the last character is incomplete.
+	 * @since 2026.10.18
+	 */
+	public static int decode(byte[] src, int off, int len, Appendable dst) throws IOException {
+		char[] tmp = new char[len];
+		int count = decode(src, off, len, tmp, 0);
+		if (dst instanceof StringBuilder) {
+			((StringBuilder) dst).append(tmp, 0, count);
+		} else {
+			dst.append(CharBuffer.wrap(tmp, 0, count));
+		}
+		return count;
+	}
+
+	/**
+	 * Decodes a sequence of UTF-8 encoded characters into a String. See
+	 * decode(byte[], int, int, char[], int) for further details.
+	 * 
+	 * @param src The source buffer.
+	 * @param off The offset of the first byte.
+	 * @param len The number of bytes to decode.
+	 * @return The decoded string.
+	 * @throws IllegalArgumentException If the encoding is invalid.
+	 * @throws BufferUnderflowException If the last character is incomplete.
+	 * @since 2026.10.18
+	 */
+	public static String decode(byte[] src, int off, int len) {
+		char[] tmp = new char[len];
+		int count = decode(src, off, len, tmp, 0);
+		return new String(tmp, 0, count);
+	}
+
 	/**
 	 * Returns the number of bytes required to encode a given codepoint in UTF-8.
 	 * 
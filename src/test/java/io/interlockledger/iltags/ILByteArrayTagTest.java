@@ -15,12 +15,16 @@
  */
 package io.interlockledger.iltags;
 
+import static io.interlockledger.iltags.TestUtils.createSampleByteArray;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Random;
 
 import org.junit.Test;
@@ -44,6 +48,33 @@ public class ILByteArrayTagTest {
 		}
 	}
 
+	@Test
+	public void testDeserializeValueSliceMode() throws Exception {
+		byte[] src = createSampleByteArray(32);
+
+		ILByteArrayTag t = new ILByteArrayTag(ILStandardTags.TAG_BYTE_ARRAY.ordinal(), true);
+		ILMemoryTagDataReader in = new ILMemoryTagDataReader(src);
+		in.skip(4);
+		t.deserializeValue(null, 16, in);
+		assertEquals(20, in.getOffset());
+		assertEquals(16, t.getValueSize());
+
+		// Shares the bytes of the reader
+		ByteBuffer v = t.getValueBuffer();
+		assertEquals(ByteBuffer.wrap(src, 4, 16), v);
+		src[4] = 0;
+		assertEquals(0, t.getValueBuffer().get(0));
+
+		ILMemoryTagDataWriter out = new ILMemoryTagDataWriter();
+		t.serializeValue(out);
+		assertArrayEquals(Arrays.copyOfRange(src, 4, 20), out.toByteArray());
+		assertArrayEquals(Arrays.copyOfRange(src, 4, 20), t.getValue());
+
+		// The array replaced the view
+		src[4] = 1;
+		assertEquals(0, t.getValue()[0]);
+	}
+
 	@Test
 	public void testEquals() {
 		byte[] v0 = new byte[1];
@@ -66,6 +97,18 @@ public class ILByteArrayTagTest {
 		assertFalse(t1.equals(null));
 		assertFalse(t1.equals(t3));
 		assertFalse(t1.equals(t4));
+
+		// Views
+		ILByteArrayTag t5 = new ILByteArrayTag();
+		t5.setValue(ByteBuffer.wrap(v0));
+		ILByteArrayTag t6 = new ILByteArrayTag();
+		t6.setValue(ByteBuffer.wrap(v1));
+		assertTrue(t1.equals(t5));
+		assertTrue(t5.equals(t1));
+		assertEquals(t1.hashCode(), t5.hashCode());
+		assertFalse(t5.equals(t6));
+		assertFalse(t5.equals(new ILByteArrayTag()));
+		assertFalse(new ILByteArrayTag().equals(t5));
 	}
 
 	@Test
@@ -82,6 +125,20 @@ public class ILByteArrayTagTest {
 		}
 	}
 
+	@Test
+	public void testGetValueBuffer() {
+		byte[] src = createSampleByteArray(16);
+		ILByteArrayTag t = new ILByteArrayTag();
+
+		assertNull(t.getValueBuffer());
+		t.setValue(src);
+		ByteBuffer v = t.getValueBuffer();
+		assertTrue(v.isReadOnly());
+		assertEquals(ByteBuffer.wrap(src), v);
+		v.get();
+		assertEquals(16, t.getValueBuffer().remaining());
+	}
+
 	@Test
 	public void testGetValueSize() {
 		Random random = new Random();
@@ -107,6 +164,15 @@ public class ILByteArrayTagTest {
 		assertEquals(0xFACADA, t.getId());
 	}
 
+	@Test
+	public void testILByteArrayTagLongBoolean() {
+		ILByteArrayTag t = new ILByteArrayTag(0xFACADA, true);
+		assertEquals(0xFACADA, t.getId());
+		assertTrue(t.isSliceMode());
+		t = new ILByteArrayTag(0xFACADA, false);
+		assertFalse(t.isSliceMode());
+	}
+
 	@Test
 	public void testSerializeValue() throws Exception {
 		Random random = new Random();
@@ -130,4 +196,33 @@ public class ILByteArrayTagTest {
 		ILMemoryTagDataWriter out = new ILMemoryTagDataWriter();
 		t.serializeValue(out);
 	}
+
+	@Test
+	public void testSetSliceMode() {
+		ILByteArrayTag t = new ILByteArrayTag();
+
+		assertFalse(t.isSliceMode());
+		t.setSliceMode(true);
+		assertTrue(t.isSliceMode());
+		t.setSliceMode(false);
+		assertFalse(t.isSliceMode());
+	}
+
+	@Test
+	public void testSetValueByteBuffer() {
+		byte[] src = createSampleByteArray(16);
+		ILByteArrayTag t = new ILByteArrayTag();
+
+		ByteBuffer b = ByteBuffer.wrap(src, 2, 4);
+		t.setValue(b);
+		assertEquals(2, b.position());
+		assertEquals(4, t.getValueSize());
+		assertEquals(ByteBuffer.wrap(src, 2, 4), t.getValueBuffer());
+		t.setValue((ByteBuffer) null);
+		assertNull(t.getValueBuffer());
+		assertNull(t.getValue());
+		t.setValue(src);
+		t.setValue(b);
+		assertArrayEquals(Arrays.copyOfRange(src, 2, 6), t.getValue());
+	}
 }
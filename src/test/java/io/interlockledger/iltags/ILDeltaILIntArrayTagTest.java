@@ -0,0 +1,347 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import io.interlockledger.iltags.ilint.ILIntCodec;
+import io.interlockledger.iltags.ilint.ILSignedIntCodec;
+import io.interlockledger.iltags.io.ILMemoryTagDataReader;
+import io.interlockledger.iltags.io.ILMemoryTagDataWriter;
+
+public class ILDeltaILIntArrayTagTest {
+
+	private static final long TAG_ID = 1234;
+
+	private Random random = new Random();
+
+	private long[] createSortedSample(int size) {
+		long[] ret = new long[size];
+		long v = random.nextLong() >>> 1;
+		for (int i = 0; i < size; i++) {
+			v += random.nextInt(100);
+			ret[i] = v;
+		}
+		return ret;
+	}
+
+	private long[] createRandomSample(int size) {
+		long[] ret = new long[size];
+		for (int i = 0; i < size; i++) {
+			ret[i] = random.nextLong();
+		}
+		return ret;
+	}
+
+	private byte[] encode(long[] sample, int interval) throws Exception {
+		ILMemoryTagDataWriter entries = new ILMemoryTagDataWriter();
+		ILMemoryTagDataWriter table = new ILMemoryTagDataWriter();
+		for (int i = 0; i < sample.length; i++) {
+			if (i % interval == 0) {
+				if (i > 0) {
+					table.writeInt((int) entries.getOffset());
+				}
+				entries.writeILInt(sample[i]);
+			} else {
+				entries.writeILInt(ILSignedIntCodec.toUnsigned(sample[i] - sample[i - 1]));
+			}
+		}
+		ILMemoryTagDataWriter src = new ILMemoryTagDataWriter();
+		src.writeILInt(sample.length);
+		src.writeILInt(interval);
+		src.writeBytes(table.toByteArray());
+		src.writeBytes(entries.toByteArray());
+		return src.toByteArray();
+	}
+
+	@Test
+	public void testDecodeRange() throws Exception {
+
+		for (int interval = 1; interval < 70; interval += 7) {
+			long[] sample = createSortedSample(300);
+			byte[] enc = encode(sample, interval);
+			ILDeltaILIntArrayTag encoded = new ILDeltaILIntArrayTag(TAG_ID);
+			encoded.deserializeValue(null, enc.length, new ILMemoryTagDataReader(enc));
+			ILDeltaILIntArrayTag plain = new ILDeltaILIntArrayTag(TAG_ID, interval);
+			plain.setValue(sample);
+
+			for (ILDeltaILIntArrayTag t : new ILDeltaILIntArrayTag[] { encoded, plain }) {
+				assertEquals(sample.length, t.size());
+				for (int from = 0; from < sample.length; from += 17) {
+					for (int count = 0; count <= sample.length - from; count += 31) {
+						long[] dst = new long[count + 2];
+						t.decodeRange(from, dst, 1, count);
+						assertArrayEquals(Arrays.copyOfRange(sample, from, from + count),
+								Arrays.copyOfRange(dst, 1, count + 1));
+					}
+				}
+				try {
+					t.decodeRange(sample.length - 1, new long[2], 0, 2);
+					fail();
+				} catch (IndexOutOfBoundsException e) {
+				}
+				try {
+					t.decodeRange(-1, new long[2], 0, 1);
+					fail();
+				} catch (IndexOutOfBoundsException e) {
+				}
+				try {
+					t.decodeRange(0, new long[2], 1, 2);
+					fail();
+				} catch (IndexOutOfBoundsException e) {
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testDeserializeValue() throws Exception {
+
+		for (int interval = 1; interval < 70; interval += 7) {
+			for (int size = 0; size < 1024; size += 33) {
+				long[] sample = createSortedSample(size);
+				byte[] enc = encode(sample, interval);
+
+				ILDeltaILIntArrayTag t = new ILDeltaILIntArrayTag(TAG_ID);
+				t.deserializeValue(null, enc.length, new ILMemoryTagDataReader(enc));
+				assertEquals(interval, t.getCheckpointInterval());
+				assertEquals(enc.length, t.getValueSize());
+				assertArrayEquals(sample, t.toArray());
+			}
+		}
+	}
+
+	@Test
+	public void testDeserializeValueFail() throws Exception {
+
+		// Invalid interval
+		ILMemoryTagDataWriter src = new ILMemoryTagDataWriter();
+		src.writeILInt(1);
+		src.writeILInt(0);
+		src.writeILInt(1);
+		ILDeltaILIntArrayTag t = new ILDeltaILIntArrayTag(TAG_ID);
+		try {
+			t.deserializeValue(null, src.getOffset(), new ILMemoryTagDataReader(src.toByteArray()));
+			fail();
+		} catch (ILTagException e) {
+		}
+
+		// Negative count
+		src = new ILMemoryTagDataWriter();
+		src.writeILInt(-250);
+		src.writeILInt(64);
+		try {
+			t.deserializeValue(null, src.getOffset(), new ILMemoryTagDataReader(src.toByteArray()));
+			fail();
+		} catch (ILTagException e) {
+		}
+
+		long[] sample = createSortedSample(10);
+		byte[] enc = encode(sample, 4);
+		// Wrong checkpoint offset
+		byte[] bad = enc.clone();
+		bad[5]++;
+		try {
+			t.deserializeValue(null, bad.length, new ILMemoryTagDataReader(bad));
+			fail();
+		} catch (ILTagException e) {
+		}
+
+		// Truncated
+		for (int size = 0; size < enc.length; size++) {
+			try {
+				t.deserializeValue(null, size, new ILMemoryTagDataReader(enc));
+				fail();
+			} catch (ILTagException e) {
+			}
+		}
+
+		// Extra bytes
+		bad = Arrays.copyOf(enc, enc.length + 1);
+		try {
+			t.deserializeValue(null, bad.length, new ILMemoryTagDataReader(bad));
+			fail();
+		} catch (ILTagException e) {
+		}
+	}
+
+	@Test
+	public void testEquals() {
+		ILDeltaILIntArrayTag t1 = new ILDeltaILIntArrayTag(TAG_ID);
+		t1.getValue().add(1l);
+		ILDeltaILIntArrayTag t2 = new ILDeltaILIntArrayTag(TAG_ID, 1);
+		t2.getValue().add(1l);
+		ILDeltaILIntArrayTag t3 = new ILDeltaILIntArrayTag(TAG_ID);
+		t3.getValue().add(2l);
+		ILILIntArrayTag t4 = new ILILIntArrayTag(TAG_ID);
+		t4.getValue().add(1l);
+
+		assertTrue(t1.equals(t1));
+		assertTrue(t1.equals(t2));
+		assertFalse(t1.equals(null));
+		assertFalse(t1.equals(t3));
+		assertFalse(t1.equals(t4));
+	}
+
+	@Test
+	public void testGetValueSize() throws Exception {
+
+		for (int size = 0; size < 1024; size += 33) {
+			long[] sample = createSortedSample(size);
+			ILDeltaILIntArrayTag t = new ILDeltaILIntArrayTag(TAG_ID);
+			t.setValue(sample);
+
+			ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+			t.serializeValue(w);
+			assertEquals(w.getOffset(), t.getValueSize());
+
+			// Sorted samples must be much smaller than the plain array
+			ILILIntArrayTag plain = new ILILIntArrayTag(TAG_ID);
+			plain.setValue(sample);
+			if (size > 0) {
+				assertTrue(t.getValueSize() < plain.getValueSize());
+			}
+		}
+	}
+
+	@Test
+	public void testILDeltaILIntArrayTag() {
+		ILDeltaILIntArrayTag t = new ILDeltaILIntArrayTag(TAG_ID);
+
+		assertEquals(TAG_ID, t.getId());
+		assertEquals(0, t.getValue().size());
+		assertEquals(ILDeltaILIntArrayTag.DEFAULT_CHECKPOINT_INTERVAL, t.getCheckpointInterval());
+
+		t = new ILDeltaILIntArrayTag(TAG_ID, 10);
+		assertEquals(10, t.getCheckpointInterval());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testILDeltaILIntArrayTagFail() {
+		new ILDeltaILIntArrayTag(TAG_ID, 0);
+	}
+
+	@Test
+	public void testGet() throws Exception {
+		long[] sample = createSortedSample(200);
+		byte[] enc = encode(sample, 16);
+		ILDeltaILIntArrayTag t = new ILDeltaILIntArrayTag(TAG_ID);
+		t.deserializeValue(null, enc.length, new ILMemoryTagDataReader(enc));
+
+		for (int i = sample.length - 1; i >= 0; i--) {
+			assertEquals(sample[i], t.get(i));
+		}
+		try {
+			t.get(sample.length);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+		}
+		try {
+			t.get(-1);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+		}
+
+		// Not encoded
+		t.getValue();
+		for (int i = 0; i < sample.length; i++) {
+			assertEquals(sample[i], t.get(i));
+		}
+	}
+
+	@Test
+	public void testGetValue() throws Exception {
+		long[] sample = createSortedSample(100);
+		byte[] enc = encode(sample, 8);
+		ILDeltaILIntArrayTag t = new ILDeltaILIntArrayTag(TAG_ID);
+		t.deserializeValue(null, enc.length, new ILMemoryTagDataReader(enc));
+
+		// The list becomes the value
+		assertEquals(sample.length, t.getValue().size());
+		t.getValue().add(sample[sample.length - 1] + 1);
+		assertEquals(sample.length + 1, t.size());
+		assertEquals(sample[sample.length - 1] + 1, t.get(sample.length));
+
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		t.serializeValue(w);
+		assertEquals(w.getOffset(), t.getValueSize());
+		ILDeltaILIntArrayTag t2 = new ILDeltaILIntArrayTag(TAG_ID);
+		t2.deserializeValue(null, w.getOffset(), new ILMemoryTagDataReader(w.toByteArray()));
+		assertTrue(t.equals(t2));
+	}
+
+	@Test
+	public void testSerializeValue() throws Exception {
+
+		for (int interval = 1; interval < 70; interval += 7) {
+			for (int size = 0; size < 1024; size += 33) {
+				long[] sample = (size % 2 == 0) ? createSortedSample(size) : createRandomSample(size);
+				ILDeltaILIntArrayTag t = new ILDeltaILIntArrayTag(TAG_ID, interval);
+				t.setValue(sample);
+
+				ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+				t.serializeValue(w);
+				byte[] bin = w.toByteArray();
+				assertEquals(t.getValueSize(), bin.length);
+				assertArrayEquals(encode(sample, interval), bin);
+
+				ILDeltaILIntArrayTag t2 = new ILDeltaILIntArrayTag(TAG_ID);
+				t2.deserializeValue(null, bin.length, new ILMemoryTagDataReader(bin));
+				assertArrayEquals(sample, t2.toArray());
+				assertEquals(interval, t2.getCheckpointInterval());
+
+				// The encoded value is written as is
+				w = new ILMemoryTagDataWriter();
+				t2.serializeValue(w);
+				assertArrayEquals(bin, w.toByteArray());
+			}
+		}
+	}
+
+	@Test
+	public void testSetCheckpointInterval() throws Exception {
+		ILDeltaILIntArrayTag t = new ILDeltaILIntArrayTag(TAG_ID);
+
+		t.setCheckpointInterval(1);
+		assertEquals(1, t.getCheckpointInterval());
+		try {
+			t.setCheckpointInterval(0);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+		assertEquals(1, t.getCheckpointInterval());
+		assertEquals(ILIntCodec.getEncodedSize(0) + 1, t.getValueSize());
+
+		// Changing the interval of a deserialized tag
+		long[] sample = createSortedSample(50);
+		byte[] enc = encode(sample, 8);
+		t.deserializeValue(null, enc.length, new ILMemoryTagDataReader(enc));
+		t.setCheckpointInterval(8);
+		assertEquals(enc.length, t.getValueSize());
+		t.setCheckpointInterval(5);
+		assertEquals(encode(sample, 5).length, t.getValueSize());
+		assertArrayEquals(sample, t.toArray());
+	}
+}
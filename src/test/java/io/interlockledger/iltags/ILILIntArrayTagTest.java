@@ -142,4 +142,37 @@ public class ILILIntArrayTagTest {
 			assertArrayEquals(expected.toByteArray(), w.toByteArray());
 		}
 	}
+
+	@Test
+	public void testSetValueLongArray() {
+		long[] sample = { 1, 2, 3, Long.MIN_VALUE, Long.MAX_VALUE };
+
+		ILILIntArrayTag t = new ILILIntArrayTag();
+		t.getValue().add(10l);
+		t.setValue(sample);
+		assertEquals(sample.length, t.getValue().size());
+		for (int i = 0; i < sample.length; i++) {
+			assertEquals(sample[i], t.getValue().get(i).longValue());
+		}
+		t.setValue(new long[0]);
+		assertEquals(0, t.getValue().size());
+	}
+
+	@Test
+	public void testToArray() {
+
+		for (int size = 0; size < 1024; size += 33) {
+			Long[] sample = createSample(size);
+
+			ILILIntArrayTag t = new ILILIntArrayTag();
+			for (Long l : sample) {
+				t.getValue().add(l);
+			}
+			long[] v = t.toArray();
+			assertEquals(size, v.length);
+			for (int i = 0; i < size; i++) {
+				assertEquals(sample[i].longValue(), v[i]);
+			}
+		}
+	}
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import io.interlockledger.iltags.ilint.ILIntCodec;
+import io.interlockledger.iltags.ilint.ILSignedIntCodec;
+import io.interlockledger.iltags.io.ILMemoryTagDataReader;
+import io.interlockledger.iltags.io.ILMemoryTagDataWriter;
+
+public class ILSignedILIntArrayTagTest {
+
+	private static final long TAG_ID = 1234;
+
+	private Random random = new Random();
+
+	private Long[] createSample(int size) {
+		Long[] ret = new Long[size];
+		for (int i = 0; i < size; i++) {
+			ret[i] = random.nextLong() >> random.nextInt(64);
+		}
+		return ret;
+	}
+
+	@Test
+	public void testDeserializeValue() throws Exception {
+
+		for (int size = 0; size < 1024; size += 33) {
+			Long[] sample = createSample(size);
+
+			ILMemoryTagDataWriter src = new ILMemoryTagDataWriter();
+			src.writeILInt(size);
+			for (Long l : sample) {
+				src.writeILInt(ILSignedIntCodec.toUnsigned(l));
+			}
+
+			ILSignedILIntArrayTag t = new ILSignedILIntArrayTag(TAG_ID);
+			t.deserializeValue(null, src.getOffset(), new ILMemoryTagDataReader(src.toByteArray()));
+			assertEquals(size, t.getValue().size());
+			for (int i = 0; i < size; i++) {
+				assertEquals(sample[i], t.getValue().get(i));
+			}
+		}
+	}
+
+	@Test
+	public void testEquals() {
+		ILSignedILIntArrayTag t1 = new ILSignedILIntArrayTag(TAG_ID);
+		t1.getValue().add(-1l);
+		ILSignedILIntArrayTag t2 = new ILSignedILIntArrayTag(TAG_ID);
+		t2.getValue().add(-1l);
+		ILSignedILIntArrayTag t3 = new ILSignedILIntArrayTag(TAG_ID);
+		t3.getValue().add(1l);
+		ILILIntArrayTag t4 = new ILILIntArrayTag(TAG_ID);
+		t4.getValue().add(-1l);
+
+		assertTrue(t1.equals(t1));
+		assertTrue(t1.equals(t2));
+		assertFalse(t1.equals(null));
+		assertFalse(t1.equals(t3));
+		assertFalse(t1.equals(t4));
+	}
+
+	@Test
+	public void testGetValueSize() {
+
+		for (int size = 0; size < 1024; size += 33) {
+			Long[] sample = createSample(size);
+
+			ILSignedILIntArrayTag t = new ILSignedILIntArrayTag(TAG_ID);
+			long expected = ILIntCodec.getEncodedSize(size);
+			for (Long l : sample) {
+				t.getValue().add(l);
+				expected += ILSignedIntCodec.getEncodedSize(l);
+			}
+			assertEquals(expected, t.getValueSize());
+		}
+
+		// Small negative deltas use a single byte
+		ILSignedILIntArrayTag t = new ILSignedILIntArrayTag(TAG_ID);
+		for (long v = -124; v < 124; v++) {
+			t.getValue().add(v);
+		}
+		assertEquals(2 + 248, t.getValueSize());
+	}
+
+	@Test
+	public void testILSignedILIntArrayTag() {
+		ILSignedILIntArrayTag t = new ILSignedILIntArrayTag(TAG_ID);
+
+		assertEquals(TAG_ID, t.getId());
+		assertEquals(0, t.getValue().size());
+	}
+
+	@Test
+	public void testSerializeValue() throws Exception {
+
+		for (int size = 0; size < 1024; size += 33) {
+			Long[] sample = createSample(size);
+
+			ILSignedILIntArrayTag t = new ILSignedILIntArrayTag(TAG_ID);
+			ILMemoryTagDataWriter expected = new ILMemoryTagDataWriter();
+			expected.writeILInt(size);
+			for (Long l : sample) {
+				t.getValue().add(l);
+				expected.writeILInt(ILSignedIntCodec.toUnsigned(l));
+			}
+
+			ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+			t.serializeValue(w);
+			assertArrayEquals(expected.toByteArray(), w.toByteArray());
+			assertEquals(t.getValueSize(), w.getOffset());
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+import org.junit.Test;
+
+import io.interlockledger.iltags.ilint.ILSignedIntCodec;
+import io.interlockledger.iltags.io.ILMemoryTagDataReader;
+import io.interlockledger.iltags.io.ILMemoryTagDataWriter;
+
+public class ILSignedILIntTagTest {
+
+	private static final long TAG_ID = 1234;
+
+	@Test
+	public void testDeserializeValue() throws Exception {
+		Random random = new Random();
+
+		for (int i = 0; i < 32; i++) {
+			long v = random.nextLong() >> random.nextInt(64);
+
+			ByteArrayOutputStream raw = new ByteArrayOutputStream();
+			ILSignedIntCodec.encode(v, raw);
+			raw.close();
+
+			ILSignedILIntTag t = new ILSignedILIntTag(TAG_ID);
+			ILMemoryTagDataReader in = new ILMemoryTagDataReader(raw.toByteArray());
+			t.deserializeValue(null, raw.size(), in);
+			assertEquals(v, t.getValue());
+		}
+	}
+
+	@Test
+	public void testEquals() {
+		ILSignedILIntTag t1 = new ILSignedILIntTag(TAG_ID);
+		ILSignedILIntTag t2 = new ILSignedILIntTag(TAG_ID);
+		ILSignedILIntTag t3 = new ILSignedILIntTag(TAG_ID);
+		t3.setValue(-1);
+		ILSignedILIntTag t4 = new ILSignedILIntTag(TAG_ID + 1);
+		ILILIntTag t5 = new ILILIntTag(TAG_ID);
+
+		assertTrue(t1.equals(t1));
+		assertTrue(t1.equals(t2));
+		assertFalse(t1.equals(null));
+		assertFalse(t1.equals(t3));
+		assertFalse(t1.equals(t4));
+		assertFalse(t1.equals(t5));
+	}
+
+	@Test
+	public void testGetValueSize() {
+
+		ILSignedILIntTag t = new ILSignedILIntTag(TAG_ID);
+		for (long v = -124; v < 124; v++) {
+			t.setValue(v);
+			assertEquals(1, t.getValueSize());
+		}
+		t.setValue(Long.MIN_VALUE);
+		assertEquals(9, t.getValueSize());
+	}
+
+	@Test
+	public void testILSignedILIntTag() {
+		ILSignedILIntTag t = new ILSignedILIntTag(TAG_ID);
+
+		assertEquals(TAG_ID, t.getId());
+		assertEquals(0, t.getValue());
+	}
+
+	@Test
+	public void testSerializeValue() throws Exception {
+		Random random = new Random();
+
+		for (int i = 0; i < 32; i++) {
+			long v = random.nextLong() >> random.nextInt(64);
+			ILSignedILIntTag t = new ILSignedILIntTag(TAG_ID);
+			t.setValue(v);
+
+			ILMemoryTagDataWriter actual = new ILMemoryTagDataWriter();
+			t.serializeValue(actual);
+			ByteArrayOutputStream expected = new ByteArrayOutputStream();
+			ILSignedIntCodec.encode(v, expected);
+			expected.close();
+			assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+		}
+	}
+
+	@Test
+	public void testSerializeDeserialize() throws Exception {
+		ILTagFactory factory = new ILTagFactory() {
+			@Override
+			public ILTag create(long tagId) {
+				if (tagId == TAG_ID) {
+					return new ILSignedILIntTag(tagId);
+				}
+				return super.create(tagId);
+			}
+		};
+
+		ILSignedILIntTag t = new ILSignedILIntTag(TAG_ID);
+		t.setValue(-100);
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		t.serialize(w);
+		byte[] bin = w.toByteArray();
+		assertEquals(t.getTagSize(), bin.length);
+
+		ILTag t2 = factory.deserialize(new ILMemoryTagDataReader(bin));
+		assertEquals(t, t2);
+	}
+}
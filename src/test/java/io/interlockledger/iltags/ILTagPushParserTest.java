@@ -0,0 +1,297 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.interlockledger.iltags.io.ILMemoryTagDataWriter;
+
+public class ILTagPushParserTest {
+
+	private static List<ILTag> createSampleTags() {
+		List<ILTag> tags = new ArrayList<>();
+
+		tags.add(ILNullTag.NULL);
+		ILILIntTag ilint = new ILILIntTag();
+		ilint.setValue(0xFFFFFFFFl);
+		tags.add(ilint);
+		ILInt32Tag int32 = new ILInt32Tag();
+		int32.setValue(0x12345678);
+		tags.add(int32);
+		ILStringTag s = new ILStringTag();
+		s.setValue("ação😀");
+		tags.add(s);
+		ILByteArrayTag bytes = new ILByteArrayTag();
+		bytes.setValue(TestUtils.createSampleByteArray(300));
+		tags.add(bytes);
+		ILTagSequenceTag seq = new ILTagSequenceTag();
+		seq.getValue().add(s);
+		seq.getValue().add(int32);
+		seq.getValue().add(ILNullTag.NULL);
+		tags.add(seq);
+		ilint = new ILILIntTag();
+		ilint.setValue(1);
+		tags.add(ilint);
+		return tags;
+	}
+
+	private static byte[] serialize(List<ILTag> tags) throws Exception {
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		for (ILTag t : tags) {
+			t.serialize(w);
+		}
+		return w.toByteArray();
+	}
+
+	@Test
+	public void testFeedByteArrayIntInt() throws Exception {
+		List<ILTag> tags = createSampleTags();
+		byte[] enc = serialize(tags);
+
+		for (int chunk = 1; chunk <= enc.length; chunk += 7) {
+			ILTagPushParser p = new ILTagPushParser(new ILTagFactory());
+			List<ILTag> parsed = new ArrayList<>();
+			for (int off = 0; off < enc.length; off += chunk) {
+				p.feed(enc, off, Math.min(chunk, enc.length - off));
+				ILTag t;
+				while ((t = p.poll()) != null) {
+					parsed.add(t);
+				}
+			}
+			assertEquals(0, p.getPending());
+			assertEquals(tags.size(), parsed.size());
+			for (int i = 0; i < tags.size(); i++) {
+				assertTrue(tags.get(i).equals(parsed.get(i)));
+			}
+		}
+
+		ILTagPushParser p = new ILTagPushParser(new ILTagFactory());
+		try {
+			p.feed(enc, 1, enc.length);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+		}
+	}
+
+	@Test
+	public void testFeedByteBuffer() throws Exception {
+		List<ILTag> tags = createSampleTags();
+		byte[] enc = serialize(tags);
+		ILTagPushParser p = new ILTagPushParser(new ILTagFactory());
+
+		ByteBuffer b = ByteBuffer.wrap(enc, 0, 3);
+		assertEquals(1, p.feed(b));
+		assertEquals(3, b.position());
+		assertEquals(2, p.getPending());
+		b = ByteBuffer.wrap(enc, 3, enc.length - 3);
+		assertEquals(tags.size(), p.feed(b));
+		assertEquals(enc.length, b.position());
+		assertEquals(0, p.getPending());
+		for (ILTag t : tags) {
+			assertTrue(t.equals(p.poll()));
+		}
+		assertNull(p.poll());
+	}
+
+	@Test
+	public void testFeedFail() throws Exception {
+		ILTagPushParser p = new ILTagPushParser(new ILTagFactory());
+
+		// Incomplete string
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		w.writeILInt(ILStandardTags.TAG_STRING.ordinal());
+		w.writeILInt(2);
+		w.writeByte((byte) 0xE2);
+		w.writeByte((byte) 0x82);
+		byte[] enc = w.toByteArray();
+		p.feed(enc, 0, 1);
+		assertEquals(1, p.getPending());
+		try {
+			p.feed(enc, 1, enc.length - 1);
+			fail();
+		} catch (ILTagException e) {
+		}
+		assertEquals(0, p.getPending());
+
+		// Unknown implicit tag
+		w = new ILMemoryTagDataWriter();
+		w.writeILInt(ILStandardTags.RESERVED_15.ordinal());
+		enc = w.toByteArray();
+		try {
+			p.feed(enc, 0, enc.length);
+			fail();
+		} catch (ILTagException e) {
+		}
+
+		// Too large
+		p.setMaxTagSize(16);
+		w = new ILMemoryTagDataWriter();
+		w.writeILInt(ILStandardTags.TAG_BYTE_ARRAY.ordinal());
+		w.writeILInt(15);
+		enc = w.toByteArray();
+		try {
+			p.feed(enc, 0, enc.length);
+			fail();
+		} catch (ILTagException e) {
+		}
+		w = new ILMemoryTagDataWriter();
+		w.writeILInt(ILStandardTags.TAG_BYTE_ARRAY.ordinal());
+		w.writeILInt(14);
+		w.writeBytes(new byte[14]);
+		enc = w.toByteArray();
+		assertEquals(1, p.feed(enc, 0, enc.length));
+
+		// Completed tags survive the failure
+		enc = w.toByteArray();
+		w = new ILMemoryTagDataWriter();
+		w.writeILInt(ILStandardTags.RESERVED_15.ordinal());
+		byte[] bad = w.toByteArray();
+		byte[] mixed = new byte[enc.length + bad.length];
+		System.arraycopy(enc, 0, mixed, 0, enc.length);
+		System.arraycopy(bad, 0, mixed, enc.length, bad.length);
+		try {
+			p.feed(mixed, 0, mixed.length);
+			fail();
+		} catch (ILTagException e) {
+		}
+		assertEquals(0, p.getPending());
+		assertEquals(2, p.getAvailable());
+		assertNotNull(p.poll());
+		assertNotNull(p.poll());
+		assertNull(p.poll());
+	}
+
+	@Test
+	public void testFeedSliceMode() throws Exception {
+		ILTagPushParser p = new ILTagPushParser(new ILTagFactory() {
+			@Override
+			public ILTag create(long tagId) {
+				if (tagId == ILStandardTags.TAG_BYTE_ARRAY.ordinal()) {
+					return new ILByteArrayTag(tagId, true);
+				}
+				return super.create(tagId);
+			}
+		});
+
+		ILByteArrayTag t = new ILByteArrayTag();
+		t.setValue(new byte[] { 1, 2, 3, 4 });
+		byte[] enc = t.toBytes();
+		assertEquals(1, p.feed(enc, 0, enc.length));
+		ILByteArrayTag first = (ILByteArrayTag) p.poll();
+
+		// The parser reuses its buffer
+		t.setValue(new byte[] { 9, 9, 9, 9 });
+		enc = t.toBytes();
+		assertEquals(1, p.feed(enc, 0, enc.length));
+		ILByteArrayTag second = (ILByteArrayTag) p.poll();
+		assertArrayEquals(new byte[] { 1, 2, 3, 4 }, first.getValue());
+		assertArrayEquals(new byte[] { 9, 9, 9, 9 }, second.getValue());
+	}
+
+	@Test
+	public void testFeedRuntimeException() throws Exception {
+		ILTagPushParser p = new ILTagPushParser(new ILTagFactory());
+
+		// Negative nested tag id inside a sequence
+		byte[] enc = { 21, 19, 19, -1, -82, 122, 46, 30, 106, -55, -89, 19, 114, -39, 24, 90, -128, 58, 5, -41,
+				113 };
+		for (int i = 0; i < 3; i++) {
+			try {
+				p.feed(enc, 0, enc.length);
+				fail();
+			} catch (ILTagException e) {
+			}
+			assertEquals(0, p.getPending());
+		}
+
+		// The parser is still usable
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		ILNullTag.NULL.serialize(w);
+		enc = w.toByteArray();
+		assertEquals(1, p.feed(enc, 0, enc.length));
+		assertNotNull(p.poll());
+	}
+
+	@Test
+	public void testGetAvailable() throws Exception {
+		List<ILTag> tags = createSampleTags();
+		byte[] enc = serialize(tags);
+		ILTagPushParser p = new ILTagPushParser(new ILTagFactory());
+
+		assertEquals(0, p.getAvailable());
+		p.feed(enc, 0, enc.length);
+		assertEquals(tags.size(), p.getAvailable());
+		p.poll();
+		assertEquals(tags.size() - 1, p.getAvailable());
+	}
+
+	@Test
+	public void testGetPending() throws Exception {
+		byte[] enc = serialize(createSampleTags());
+		ILTagPushParser p = new ILTagPushParser(new ILTagFactory());
+
+		// The first tag is the null tag, followed by a 6 bytes long ILInt tag
+		p.feed(enc, 0, 1);
+		assertEquals(0, p.getPending());
+		for (int i = 1; i < 6; i++) {
+			p.feed(enc, i, 1);
+			assertEquals(i, p.getPending());
+		}
+		p.feed(enc, 6, 1);
+		assertEquals(0, p.getPending());
+		assertEquals(2, p.getAvailable());
+	}
+
+	@Test
+	public void testReset() throws Exception {
+		byte[] enc = serialize(createSampleTags());
+		ILTagPushParser p = new ILTagPushParser(new ILTagFactory());
+
+		p.feed(enc, 0, 5);
+		assertTrue(p.getPending() > 0);
+		assertTrue(p.getAvailable() > 0);
+		p.reset();
+		assertEquals(0, p.getPending());
+		assertEquals(0, p.getAvailable());
+		p.feed(enc, 0, enc.length);
+		assertEquals(createSampleTags().size(), p.getAvailable());
+	}
+
+	@Test
+	public void testSetMaxTagSize() throws Exception {
+		ILTagPushParser p = new ILTagPushParser(new ILTagFactory());
+
+		assertEquals(ILTagPushParser.DEFAULT_MAX_TAG_SIZE, p.getMaxTagSize());
+		p.setMaxTagSize(1);
+		assertEquals(1, p.getMaxTagSize());
+		try {
+			p.setMaxTagSize(0);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+}
@@ -18,6 +18,7 @@ package io.interlockledger.iltags;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -152,6 +153,113 @@ public class ILTagSequenceTagTest {
 		assertEquals(0, t.getValue().size());
 	}
 
+	@Test
+	public void testSerialize() throws Exception {
+		final int[] counter = new int[1];
+		final int depth = 64;
+
+		ILTagSequenceTag plain = null;
+		ILTagSequenceTag counted = null;
+		for (int i = 0; i < depth; i++) {
+			ILTagSequenceTag p;
+			ILTagSequenceTag c;
+			if ((i % 2) == 0) {
+				p = new ILTagSequenceTag();
+				c = new ILTagSequenceTag() {
+					@Override
+					protected long computeValueSize() {
+						counter[0]++;
+						return super.computeValueSize();
+					}
+				};
+			} else {
+				p = new ILTagArrayTag();
+				c = new ILTagArrayTag() {
+					@Override
+					protected long computeValueSize() {
+						counter[0]++;
+						return super.computeValueSize();
+					}
+				};
+			}
+			p.getValue().add(new ILInt32Tag());
+			c.getValue().add(new ILInt32Tag());
+			if (plain != null) {
+				p.getValue().add(plain);
+				c.getValue().add(counted);
+			}
+			p.getValue().add(null);
+			c.getValue().add(null);
+			plain = p;
+			counted = c;
+		}
+
+		// Each size is computed only once
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		counted.serialize(w);
+		assertEquals(depth, counter[0]);
+		byte[] serialized = w.toByteArray();
+		assertEquals(counted.getTagSize(), serialized.length);
+
+		// The memoized sizes are discarded at the end
+		counted.getValue().add(new ILInt8Tag());
+		plain.getValue().add(new ILInt8Tag());
+		counter[0] = 0;
+		w = new ILMemoryTagDataWriter();
+		counted.serialize(w);
+		assertEquals(depth, counter[0]);
+		serialized = w.toByteArray();
+		assertEquals(plain.getTagSize(), serialized.length);
+
+		ILTag t = new ILTagFactory().deserialize(new ILMemoryTagDataReader(serialized));
+		assertEquals(plain, t);
+	}
+
+	@Test
+	public void testSerializeConcurrent() throws Exception {
+		ILTagSequenceTag root = new ILTagSequenceTag();
+		ILTagSequenceTag current = root;
+		for (int i = 0; i < 32; i++) {
+			ILTagSequenceTag next = new ILTagSequenceTag();
+			ILStringTag s = new ILStringTag();
+			s.setValue("tag " + i);
+			current.getValue().add(s);
+			current.getValue().add(next);
+			current = next;
+		}
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		root.serialize(w);
+		final byte[] expected = w.toByteArray();
+
+		final ILTagSequenceTag tree = root;
+		final Throwable[] errors = new Throwable[8];
+		Thread[] threads = new Thread[errors.length];
+		for (int i = 0; i < threads.length; i++) {
+			final int index = i;
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						for (int j = 0; j < 200; j++) {
+							ILMemoryTagDataWriter out = new ILMemoryTagDataWriter();
+							tree.serialize(out);
+							assertArrayEquals(expected, out.toByteArray());
+						}
+					} catch (Throwable e) {
+						errors[index] = e;
+					}
+				}
+			};
+			threads[i].start();
+		}
+		for (Thread th : threads) {
+			th.join();
+		}
+		for (Throwable e : errors) {
+			assertNull(e);
+		}
+	}
+
 	@Test
 	public void testSerializeValue() throws Exception {
 		ILTagSequenceTag t = new ILTagSequenceTag();
@@ -23,6 +23,8 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import org.junit.Test;
 
@@ -30,6 +32,7 @@ import io.interlockledger.iltags.ilint.ILIntCodec;
 import io.interlockledger.iltags.io.ILBaseTagDataReaderTest;
 import io.interlockledger.iltags.io.ILMemoryTagDataWriter;
 import io.interlockledger.iltags.io.ILTagNotEnoughDataException;
+import io.interlockledger.iltags.io.ILTagTooMuchDataException;
 
 public class ILTagTest {
 
@@ -204,6 +207,40 @@ public class ILTagTest {
 		t.readRawBytes(((long) Integer.MAX_VALUE) + 1, r);
 	}
 
+	@Test
+	public void testReadRawSlice() throws Exception {
+
+		for (int size = 0; size < 1024; size += 33) {
+			ILTestTag t = new ILTestTag(16, size);
+			ILBaseTagDataReaderTest.TestTagDataReader r = new ILBaseTagDataReaderTest.TestTagDataReader();
+			r.pushLimit(size);
+			ByteBuffer v = t.readRawSlice(size, r);
+			r.popLimit(true);
+			assertEquals(ByteBuffer.wrap(createSampleByteArray(size)), v);
+		}
+
+		ILTestTag t = new ILTestTag(16, 16);
+		ILBaseTagDataReaderTest.TestTagDataReader r = new ILBaseTagDataReaderTest.TestTagDataReader();
+		try {
+			t.readRawSlice(-1, r);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+		try {
+			t.readRawSlice(((long) Integer.MAX_VALUE) + 1, r);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+			fail();
+		} catch (ILTagException e) {
+		}
+		r.pushLimit(15);
+		try {
+			t.readRawSlice(16, r);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+	}
+
 	@Test
 	public void testSerialize() throws Exception {
 
@@ -248,4 +285,79 @@ public class ILTagTest {
 
 		assertArrayEquals(expected.toByteArray(), actual.toByteArray());
 	}
+
+	@Test
+	public void testSerializeIntoByteArray() throws Exception {
+
+		for (int size = 0; size < 512; size += 128) {
+			ILTestTag t = new ILTestTag(16, size);
+			ILMemoryTagDataWriter expected = new ILMemoryTagDataWriter();
+			t.serialize(expected);
+			byte[] exp = expected.toByteArray();
+
+			byte[] dst = new byte[exp.length + 2];
+			assertEquals(exp.length, t.serializeInto(dst, 1));
+			assertEquals(0, dst[0]);
+			assertEquals(0, dst[dst.length - 1]);
+			assertArrayEquals(exp, Arrays.copyOfRange(dst, 1, exp.length + 1));
+
+			// Not enough space
+			dst = new byte[exp.length + 2];
+			try {
+				t.serializeInto(dst, 3);
+				fail();
+			} catch (ILTagTooMuchDataException e) {
+			}
+			assertArrayEquals(new byte[dst.length], dst);
+		}
+
+		ILTestTag t = new ILTestTag(16, 1);
+		try {
+			t.serializeInto(new byte[4], 5);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+		}
+	}
+
+	@Test
+	public void testSerializeIntoByteBuffer() throws Exception {
+		ILTestTag t = new ILTestTag(16, 300);
+		ILMemoryTagDataWriter expected = new ILMemoryTagDataWriter();
+		t.serialize(expected);
+		byte[] exp = expected.toByteArray();
+
+		for (ByteBuffer dst : new ByteBuffer[] { ByteBuffer.allocate(exp.length + 1),
+				ByteBuffer.allocateDirect(exp.length + 1) }) {
+			dst.put((byte) 0xFF);
+			assertEquals(exp.length, t.serializeInto(dst));
+			assertEquals(exp.length + 1, dst.position());
+			dst.flip();
+			dst.get();
+			byte[] actual = new byte[exp.length];
+			dst.get(actual);
+			assertArrayEquals(exp, actual);
+
+			// Not enough space
+			dst.clear();
+			dst.position(2);
+			try {
+				t.serializeInto(dst);
+				fail();
+			} catch (ILTagTooMuchDataException e) {
+			}
+			assertEquals(2, dst.position());
+		}
+	}
+
+	@Test
+	public void testToBytes() throws Exception {
+
+		for (int size = 0; size < 512; size += 128) {
+			ILTestTag t = new ILTestTag(16, size);
+			ILMemoryTagDataWriter expected = new ILMemoryTagDataWriter();
+			t.serialize(expected);
+			assertArrayEquals(expected.toByteArray(), t.toBytes());
+		}
+		assertArrayEquals(new byte[] { 0 }, new ILTestTag(0, 0).toBytes());
+	}
 }
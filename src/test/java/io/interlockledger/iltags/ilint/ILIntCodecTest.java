@@ -15,17 +15,418 @@
  */
 package io.interlockledger.iltags.ilint;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.util.Random;
 
 import org.junit.Test;
 
 public class ILIntCodecTest {
 
+	private static final long[] SAMPLE_VALUES = { 0, 1, 247, 248, 0xFF + 248, 0xFF + 248 + 1, 0xFFFF + 248,
+			0xFFFF + 248 + 1, 0xFFFFFF + 248, 0xFFFFFF + 248 + 1, 0xFFFFFFFFl + 248, 0xFFFFFFFFl + 248 + 1,
+			0xFFFFFFFFFFl + 248, 0xFFFFFFFFFFl + 248 + 1, 0xFFFFFFFFFFFFl + 248, 0xFFFFFFFFFFFFl + 248 + 1,
+			0xFFFFFFFFFFFFFFl + 248, 0xFFFFFFFFFFFFFFl + 248 + 1, Long.MAX_VALUE, Long.MIN_VALUE,
+			0xFFFFFFFFFFFFFFFEl };
+
+	/**
+	 * Reference implementation of ILIntCodec.getEncodedSize(long).
+	 */
+	private static int getEncodedSizeReference(long value) {
+
+		if (value < 0) {
+			return 9;
+		} else if (value < ILIntCodec.ILINT_BASE) {
+			return 1;
+		} else if (value <= (0xFF + ILIntCodec.ILINT_BASE)) {
+			return 2;
+		} else if (value <= (0xFFFF + ILIntCodec.ILINT_BASE)) {
+			return 3;
+		} else if (value <= (0xFFFFFFl + ILIntCodec.ILINT_BASE)) {
+			return 4;
+		} else if (value <= (0xFFFFFFFFl + ILIntCodec.ILINT_BASE)) {
+			return 5;
+		} else if (value <= (0xFFFFFFFFFFl + ILIntCodec.ILINT_BASE)) {
+			return 6;
+		} else if (value <= (0xFFFFFFFFFFFFl + ILIntCodec.ILINT_BASE)) {
+			return 7;
+		} else if (value <= (0xFFFFFFFFFFFFFFl + ILIntCodec.ILINT_BASE)) {
+			return 8;
+		} else {
+			return 9;
+		}
+	}
+
+	private static byte[] encodeSample(long[] values) throws ILIntException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (long v : values) {
+			ILIntCodec.encode(v, out);
+		}
+		return out.toByteArray();
+	}
+
+	private static long[] createRandomSample(Random random, int size) {
+		long[] values = new long[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = random.nextLong() >>> random.nextInt(64);
+		}
+		return values;
+	}
+
+	@Test
+	public void testCount() throws Exception {
+		Random random = new Random();
+
+		byte[] enc = encodeSample(SAMPLE_VALUES);
+		assertEquals(SAMPLE_VALUES.length, ILIntCodec.count(enc, 0, enc.length));
+		assertEquals(0, ILIntCodec.count(enc, 0, 0));
+
+		for (int size = 0; size < 256; size++) {
+			long[] values = new long[size];
+			for (int i = 0; i < size; i++) {
+				// Mostly single byte values
+				values[i] = (random.nextInt(4) == 0) ? random.nextLong() >>> random.nextInt(64) : random.nextInt(248);
+			}
+			enc = encodeSample(values);
+			byte[] src = new byte[enc.length + 4];
+			System.arraycopy(enc, 0, src, 2, enc.length);
+			assertEquals(size, ILIntCodec.count(src, 2, 2 + enc.length));
+		}
+
+		// Every single byte value
+		enc = new byte[ILIntCodec.ILINT_BASE];
+		for (int i = 0; i < enc.length; i++) {
+			enc[i] = (byte) i;
+		}
+		assertEquals(enc.length, ILIntCodec.count(enc, 0, enc.length));
+	}
+
+	@Test
+	public void testCountFail() throws Exception {
+		byte[] enc = encodeSample(SAMPLE_VALUES);
+
+		int off = 0;
+		for (long v : SAMPLE_VALUES) {
+			int size = ILIntCodec.getEncodedSize(v);
+			for (int limit = off + 1; limit < off + size; limit++) {
+				try {
+					ILIntCodec.count(enc, 0, limit);
+					fail();
+				} catch (ILIntException e) {
+				}
+			}
+			off += size;
+		}
+
+		// Overflow
+		byte[] src = { 1, 2, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+				(byte) 0xFF, (byte) 0xFF, (byte) 0xFF };
+		try {
+			ILIntCodec.count(src, 0, src.length);
+			fail();
+		} catch (ILIntException e) {
+		}
+	}
+
+	@Test
+	public void testDecodeArrayByteArray() throws Exception {
+		byte[] enc = encodeSample(SAMPLE_VALUES);
+
+		for (int off = 0; off < 4; off++) {
+			byte[] src = new byte[off + enc.length];
+			System.arraycopy(enc, 0, src, off, enc.length);
+			long[] dst = new long[SAMPLE_VALUES.length + 2];
+			assertEquals(enc.length, ILIntCodec.decodeArray(src, off, dst, 1, SAMPLE_VALUES.length));
+			assertEquals(0, dst[0]);
+			for (int i = 0; i < SAMPLE_VALUES.length; i++) {
+				assertEquals(SAMPLE_VALUES[i], dst[i + 1]);
+			}
+			assertEquals(0, dst[dst.length - 1]);
+		}
+
+		Random random = new Random();
+		long[] values = createRandomSample(random, 1000);
+		enc = encodeSample(values);
+		long[] dst = new long[values.length];
+		assertEquals(enc.length, ILIntCodec.decodeArray(enc, 0, dst, 0, values.length));
+		assertArrayEquals(values, dst);
+	}
+
+	@Test
+	public void testDecodeArrayByteArrayFail() throws Exception {
+		byte[] enc = encodeSample(SAMPLE_VALUES);
+		long[] dst = new long[SAMPLE_VALUES.length];
+
+		// Truncated
+		for (int size = 0; size < enc.length; size++) {
+			byte[] src = new byte[size];
+			System.arraycopy(enc, 0, src, 0, size);
+			try {
+				ILIntCodec.decodeArray(src, 0, dst, 0, SAMPLE_VALUES.length);
+				fail();
+			} catch (ILIntException e) {
+			}
+		}
+
+		// Overflow
+		byte[] src = { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+				(byte) 0xFF, (byte) 0xFF };
+		try {
+			ILIntCodec.decodeArray(src, 0, dst, 0, 1);
+			fail();
+		} catch (ILIntException e) {
+		}
+	}
+
+	@Test
+	public void testDecodeArrayByteBuffer() throws Exception {
+		byte[] enc = encodeSample(SAMPLE_VALUES);
+
+		// Heap buffer with a limit shorter than the array
+		byte[] src = new byte[enc.length + 8];
+		System.arraycopy(enc, 0, src, 4, enc.length);
+		ByteBuffer buff = ByteBuffer.wrap(src, 4, enc.length);
+		long[] dst = new long[SAMPLE_VALUES.length];
+		assertEquals(enc.length, ILIntCodec.decodeArray(buff, dst, 0, SAMPLE_VALUES.length));
+		assertArrayEquals(SAMPLE_VALUES, dst);
+		assertEquals(4 + enc.length, buff.position());
+
+		buff = ByteBuffer.wrap(src, 4, enc.length - 1);
+		try {
+			ILIntCodec.decodeArray(buff, dst, 0, SAMPLE_VALUES.length);
+			fail();
+		} catch (ILIntException e) {
+		}
+
+		// Direct buffer
+		buff = ByteBuffer.allocateDirect(enc.length);
+		buff.put(enc);
+		buff.rewind();
+		dst = new long[SAMPLE_VALUES.length];
+		assertEquals(enc.length, ILIntCodec.decodeArray(buff, dst, 0, SAMPLE_VALUES.length));
+		assertArrayEquals(SAMPLE_VALUES, dst);
+		assertEquals(enc.length, buff.position());
+
+		buff.rewind();
+		buff.limit(enc.length - 1);
+		try {
+			ILIntCodec.decodeArray(buff, dst, 0, SAMPLE_VALUES.length);
+			fail();
+		} catch (ILIntException e) {
+		}
+	}
+
+	@Test
+	public void testDecodeByteArray() throws Exception {
+		byte[] enc = encodeSample(SAMPLE_VALUES);
+
+		int off = 0;
+		for (long v : SAMPLE_VALUES) {
+			assertEquals(v, ILIntCodec.decode(enc, off));
+			assertEquals(v, ILIntCodec.decode(enc, off, off + ILIntCodec.getEncodedSize(v)));
+			off += ILIntCodec.encodedSizeFromHeader(enc[off]);
+		}
+		assertEquals(enc.length, off);
+	}
+
+	@Test
+	public void testDecodeByteArrayFail() throws Exception {
+		byte[] enc = encodeSample(SAMPLE_VALUES);
+
+		int off = 0;
+		for (long v : SAMPLE_VALUES) {
+			int size = ILIntCodec.getEncodedSize(v);
+			for (int limit = off; limit < off + size; limit++) {
+				try {
+					ILIntCodec.decode(enc, off, limit);
+					fail();
+				} catch (ILIntException e) {
+				}
+			}
+			off += size;
+		}
+		try {
+			ILIntCodec.decode(enc, enc.length);
+			fail();
+		} catch (ILIntException e) {
+		}
+
+		// Overflow
+		byte[] src = { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+				(byte) 0xFF, (byte) 0xFF };
+		try {
+			ILIntCodec.decode(src, 0);
+			fail();
+		} catch (ILIntException e) {
+		}
+	}
+
+	@Test
+	public void testDecodeByteArrayPadded() throws Exception {
+
+		// Exercises both the word-at-a-time path and the bytewise path near the end
+		for (long v : SAMPLE_VALUES) {
+			byte[] enc = encodeSample(new long[] { v });
+			for (int pad = 0; pad < 10; pad++) {
+				byte[] src = new byte[enc.length + pad];
+				System.arraycopy(enc, 0, src, 0, enc.length);
+				for (int i = enc.length; i < src.length; i++) {
+					src[i] = (byte) 0xA5;
+				}
+				assertEquals(v, ILIntCodec.decode(src, 0));
+				assertEquals(v, ILIntCodec.decode(src, 0, enc.length));
+			}
+		}
+	}
+
+	@Test
+	public void testDecodeByteBuffer() throws Exception {
+
+		for (long v : SAMPLE_VALUES) {
+			byte[] enc = encodeSample(new long[] { v });
+			for (int pad = 0; pad < 10; pad++) {
+				for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+					ByteBuffer heap = ByteBuffer.allocate(enc.length + pad);
+					ByteBuffer direct = ByteBuffer.allocateDirect(enc.length + pad);
+					for (ByteBuffer buff : new ByteBuffer[] { heap, direct }) {
+						buff.order(order);
+						buff.put(enc);
+						while (buff.hasRemaining()) {
+							buff.put((byte) 0xA5);
+						}
+						buff.rewind();
+						assertEquals(v, ILIntCodec.decode(buff));
+						assertEquals(enc.length, buff.position());
+					}
+				}
+			}
+		}
+
+		ByteBuffer buff = ByteBuffer.allocate(16);
+		for (int i = 0; i < buff.capacity(); i++) {
+			buff.put((byte) 0xFF);
+		}
+		buff.rewind();
+		try {
+			ILIntCodec.decode(buff);
+			fail();
+		} catch (ILIntException e) {
+		}
+	}
+
+	@Test
+	public void testDecodeDataInput() throws Exception {
+		byte[] enc = encodeSample(SAMPLE_VALUES);
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(enc));
+		for (long v : SAMPLE_VALUES) {
+			assertEquals(v, ILIntCodec.decode(in));
+		}
+		assertEquals(-1, in.read());
+
+		for (int size = 0; size < enc.length; size++) {
+			in = new DataInputStream(new ByteArrayInputStream(enc, 0, size));
+			try {
+				for (int i = 0; i < SAMPLE_VALUES.length; i++) {
+					ILIntCodec.decode(in);
+				}
+				fail();
+			} catch (ILIntException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testDecodeInputStream() throws Exception {
+		byte[] enc = encodeSample(SAMPLE_VALUES);
+
+		// Counts the number of calls to the stream
+		class CountingInputStream extends ByteArrayInputStream {
+			int calls;
+
+			public CountingInputStream(byte[] buf) {
+				super(buf);
+			}
+
+			@Override
+			public synchronized int read() {
+				calls++;
+				return super.read();
+			}
+
+			@Override
+			public synchronized int read(byte[] b, int off, int len) {
+				calls++;
+				return super.read(b, off, len);
+			}
+		}
+		CountingInputStream in = new CountingInputStream(enc);
+		for (long v : SAMPLE_VALUES) {
+			in.calls = 0;
+			assertEquals(v, ILIntCodec.decode(in));
+			assertEquals((ILIntCodec.getEncodedSize(v) == 1) ? 1 : 2, in.calls);
+		}
+		assertEquals(-1, in.read());
+
+		for (int size = 0; size < enc.length; size++) {
+			InputStream tin = new ByteArrayInputStream(enc, 0, size);
+			try {
+				for (int i = 0; i < SAMPLE_VALUES.length; i++) {
+					ILIntCodec.decode(tin);
+				}
+				fail();
+			} catch (ILIntException e) {
+			}
+		}
+
+		// I/O error
+		try {
+			ILIntCodec.decode(new InputStream() {
+				@Override
+				public int read() throws IOException {
+					throw new IOException();
+				}
+			});
+			fail();
+		} catch (ILIntException e) {
+			assertTrue(e.getCause() instanceof IOException);
+		}
+	}
+
+	@Test
+	public void testDecodeReadableByteChannel() throws Exception {
+		byte[] enc = encodeSample(SAMPLE_VALUES);
+
+		ByteArrayInputStream in = new ByteArrayInputStream(enc);
+		for (long v : SAMPLE_VALUES) {
+			assertEquals(v, ILIntCodec.decode(Channels.newChannel(in)));
+		}
+		assertEquals(-1, in.read());
+
+		for (int size = 0; size < enc.length; size++) {
+			in = new ByteArrayInputStream(enc, 0, size);
+			try {
+				for (int i = 0; i < SAMPLE_VALUES.length; i++) {
+					ILIntCodec.decode(Channels.newChannel(in));
+				}
+				fail();
+			} catch (ILIntException e) {
+			}
+		}
+	}
+
 	@Test
 	public void testDecodeSingleByteByteBuffer() throws Exception {
 		ByteBuffer buff = ByteBuffer.allocate(1);
@@ -72,6 +473,124 @@ public class ILIntCodecTest {
 		}
 	}
 
+	@Test
+	public void testEncodeArrayByteArray() throws Exception {
+		byte[] exp = encodeSample(SAMPLE_VALUES);
+
+		for (int off = 0; off < 4; off++) {
+			byte[] dst = new byte[off + exp.length];
+			long[] src = new long[SAMPLE_VALUES.length + 1];
+			System.arraycopy(SAMPLE_VALUES, 0, src, 1, SAMPLE_VALUES.length);
+			assertEquals(exp.length, ILIntCodec.encodeArray(src, 1, SAMPLE_VALUES.length, dst, off));
+			for (int i = 0; i < exp.length; i++) {
+				assertEquals(exp[i], dst[off + i]);
+			}
+		}
+
+		Random random = new Random();
+		long[] values = createRandomSample(random, 1000);
+		exp = encodeSample(values);
+		byte[] dst = new byte[exp.length];
+		assertEquals(exp.length, ILIntCodec.encodeArray(values, 0, values.length, dst, 0));
+		assertArrayEquals(exp, dst);
+	}
+
+	@Test
+	public void testEncodeArrayByteArrayFail() throws Exception {
+		byte[] exp = encodeSample(SAMPLE_VALUES);
+
+		for (int size = 0; size < exp.length; size++) {
+			try {
+				ILIntCodec.encodeArray(SAMPLE_VALUES, 0, SAMPLE_VALUES.length, new byte[size], 0);
+				fail();
+			} catch (ILIntException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testEncodeArrayByteBuffer() throws Exception {
+		byte[] exp = encodeSample(SAMPLE_VALUES);
+
+		// Heap buffer with a limit shorter than the array
+		byte[] dst = new byte[exp.length + 8];
+		ByteBuffer buff = ByteBuffer.wrap(dst, 4, exp.length);
+		assertEquals(exp.length, ILIntCodec.encodeArray(SAMPLE_VALUES, 0, SAMPLE_VALUES.length, buff));
+		assertEquals(4 + exp.length, buff.position());
+		for (int i = 0; i < exp.length; i++) {
+			assertEquals(exp[i], dst[4 + i]);
+		}
+
+		buff = ByteBuffer.wrap(dst, 4, exp.length - 1);
+		try {
+			ILIntCodec.encodeArray(SAMPLE_VALUES, 0, SAMPLE_VALUES.length, buff);
+			fail();
+		} catch (ILIntException e) {
+		}
+
+		// Direct buffer
+		buff = ByteBuffer.allocateDirect(exp.length);
+		assertEquals(exp.length, ILIntCodec.encodeArray(SAMPLE_VALUES, 0, SAMPLE_VALUES.length, buff));
+		assertEquals(exp.length, buff.position());
+		buff.rewind();
+		byte[] bin = new byte[exp.length];
+		buff.get(bin);
+		assertArrayEquals(exp, bin);
+
+		buff.rewind();
+		buff.limit(exp.length - 1);
+		try {
+			ILIntCodec.encodeArray(SAMPLE_VALUES, 0, SAMPLE_VALUES.length, buff);
+			fail();
+		} catch (ILIntException e) {
+		}
+	}
+
+	@Test
+	public void testEncodeByteArray() throws Exception {
+
+		for (long v : SAMPLE_VALUES) {
+			byte[] exp = encodeSample(new long[] { v });
+			for (int off = 0; off < 4; off++) {
+				byte[] dst = new byte[off + exp.length + 1];
+				assertEquals(exp.length, ILIntCodec.encode(v, dst, off));
+				for (int i = 0; i < exp.length; i++) {
+					assertEquals(exp[i], dst[off + i]);
+				}
+				assertEquals(0, dst[off + exp.length]);
+			}
+			try {
+				ILIntCodec.encode(v, new byte[exp.length], 1);
+				fail();
+			} catch (ILIntException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testEncodeDataOutput() throws Exception {
+		byte[] exp = encodeSample(SAMPLE_VALUES);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		DataOutputStream dout = new DataOutputStream(out);
+		for (long v : SAMPLE_VALUES) {
+			assertEquals(ILIntCodec.getEncodedSize(v), ILIntCodec.encode(v, dout));
+		}
+		dout.flush();
+		assertArrayEquals(exp, out.toByteArray());
+	}
+
+	@Test
+	public void testEncodeWritableByteChannel() throws Exception {
+		byte[] exp = encodeSample(SAMPLE_VALUES);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (long v : SAMPLE_VALUES) {
+			assertEquals(ILIntCodec.getEncodedSize(v), ILIntCodec.encode(v, Channels.newChannel(out)));
+		}
+		assertArrayEquals(exp, out.toByteArray());
+	}
+
 	@Test
 	public void testEncodeMultiByteByteBuffer() throws Exception {
 
@@ -220,6 +739,22 @@ public class ILIntCodecTest {
 		}
 	}
 
+	@Test
+	public void testEncodedSizeFromHeader() throws Exception {
+
+		for (int i = 0; i < ILIntCodec.ILINT_BASE; i++) {
+			assertEquals(1, ILIntCodec.encodedSizeFromHeader((byte) i));
+		}
+		for (int i = ILIntCodec.ILINT_BASE; i < 256; i++) {
+			assertEquals(i - ILIntCodec.ILINT_BASE + 2, ILIntCodec.encodedSizeFromHeader((byte) i));
+		}
+		for (long v : SAMPLE_VALUES) {
+			ByteBuffer buff = ByteBuffer.allocate(9);
+			ILIntCodec.encode(v, buff);
+			assertEquals(ILIntCodec.getEncodedSize(v), ILIntCodec.encodedSizeFromHeader(buff.get(0)));
+		}
+	}
+
 	@Test
 	public void testGetEncodedSize() throws Exception {
 
@@ -250,4 +785,146 @@ public class ILIntCodecTest {
 		assertEquals(9, ILIntCodec.getEncodedSize(0xFFFFFFFFFFFFFFl + 248 + 1));
 		assertEquals(9, ILIntCodec.getEncodedSize(0xFFFFFFFFFFFFFFFFl));
 	}
+
+	@Test
+	public void testGetEncodedSizeBoundaries() throws Exception {
+
+		// All values around every power of 2 and their offsets by ILINT_BASE
+		for (int shift = 0; shift < 64; shift++) {
+			long p = 1l << shift;
+			for (long base : new long[] { p, p + ILIntCodec.ILINT_BASE, -p, -p + ILIntCodec.ILINT_BASE }) {
+				for (long v = base - 300; v <= base + 300; v++) {
+					assertEquals(getEncodedSizeReference(v), ILIntCodec.getEncodedSize(v));
+				}
+			}
+		}
+		for (long v = Long.MIN_VALUE; v < Long.MIN_VALUE + 300; v++) {
+			assertEquals(getEncodedSizeReference(v), ILIntCodec.getEncodedSize(v));
+		}
+		for (long v = Long.MAX_VALUE; v > Long.MAX_VALUE - 300; v--) {
+			assertEquals(getEncodedSizeReference(v), ILIntCodec.getEncodedSize(v));
+		}
+		for (long v = 0; v < 0x1FFFF; v++) {
+			assertEquals(getEncodedSizeReference(v), ILIntCodec.getEncodedSize(v));
+		}
+	}
+
+	@Test
+	public void testGetEncodedSizeRandom() throws Exception {
+		Random random = new Random();
+
+		for (int i = 0; i < 1000000; i++) {
+			long v = random.nextLong() >>> random.nextInt(64);
+			assertEquals(getEncodedSizeReference(v), ILIntCodec.getEncodedSize(v));
+		}
+	}
+
+	@Test
+	public void testGetEncodedSizeLongArray() throws Exception {
+		byte[] exp = encodeSample(SAMPLE_VALUES);
+
+		assertEquals(exp.length, ILIntCodec.getEncodedSize(SAMPLE_VALUES, 0, SAMPLE_VALUES.length));
+		assertEquals(0, ILIntCodec.getEncodedSize(SAMPLE_VALUES, 0, 0));
+		assertEquals(exp.length - 1, ILIntCodec.getEncodedSize(SAMPLE_VALUES, 1, SAMPLE_VALUES.length - 1));
+	}
+
+	@Test
+	public void testSkipByteArray() throws Exception {
+		byte[] enc = encodeSample(SAMPLE_VALUES);
+
+		int off = 0;
+		for (int n = 0; n <= SAMPLE_VALUES.length; n++) {
+			assertEquals(off, ILIntCodec.skip(enc, 0, enc.length, n));
+			if (n < SAMPLE_VALUES.length) {
+				assertEquals(SAMPLE_VALUES[n], ILIntCodec.decode(enc, off));
+				off += ILIntCodec.getEncodedSize(SAMPLE_VALUES[n]);
+			}
+		}
+		assertEquals(enc.length, off);
+
+		for (int limit = 0; limit < enc.length; limit++) {
+			try {
+				ILIntCodec.skip(enc, 0, limit, SAMPLE_VALUES.length);
+				fail();
+			} catch (ILIntException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testSkipByteBuffer() throws Exception {
+		byte[] enc = encodeSample(SAMPLE_VALUES);
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(enc.length);
+		direct.put(enc);
+		for (ByteBuffer buff : new ByteBuffer[] { ByteBuffer.wrap(enc), direct }) {
+			int off = 0;
+			for (int n = 0; n <= SAMPLE_VALUES.length; n++) {
+				buff.rewind();
+				assertEquals(off, ILIntCodec.skip(buff, n));
+				assertEquals(off, buff.position());
+				if (n < SAMPLE_VALUES.length) {
+					assertEquals(SAMPLE_VALUES[n], ILIntCodec.decode(buff));
+					off += ILIntCodec.getEncodedSize(SAMPLE_VALUES[n]);
+				}
+			}
+
+			for (int limit = 0; limit < enc.length; limit++) {
+				buff.rewind();
+				buff.limit(limit);
+				try {
+					ILIntCodec.skip(buff, SAMPLE_VALUES.length);
+					fail();
+				} catch (ILIntException e) {
+				}
+				assertEquals(0, buff.position());
+			}
+			buff.limit(buff.capacity());
+		}
+	}
+
+	@Test
+	public void testValidate() throws Exception {
+		Random random = new Random();
+
+		byte[] enc = encodeSample(SAMPLE_VALUES);
+		for (int n = 0; n <= SAMPLE_VALUES.length; n++) {
+			assertEquals(ILIntCodec.skip(enc, 0, enc.length, n), ILIntCodec.validate(enc, 0, enc.length, n));
+		}
+
+		for (int size = 0; size < 256; size++) {
+			long[] values = new long[size];
+			for (int i = 0; i < size; i++) {
+				values[i] = (random.nextInt(4) == 0) ? random.nextLong() >>> random.nextInt(64) : random.nextInt(248);
+			}
+			enc = encodeSample(values);
+			byte[] src = new byte[enc.length + 16];
+			System.arraycopy(enc, 0, src, 3, enc.length);
+			assertEquals(3 + enc.length, ILIntCodec.validate(src, 3, src.length, size));
+			assertEquals(3 + enc.length, ILIntCodec.validate(src, 3, 3 + enc.length, size));
+		}
+	}
+
+	@Test
+	public void testValidateFail() throws Exception {
+		byte[] enc = encodeSample(SAMPLE_VALUES);
+
+		for (int limit = 0; limit < enc.length; limit++) {
+			try {
+				ILIntCodec.validate(enc, 0, limit, SAMPLE_VALUES.length);
+				fail();
+			} catch (ILIntException e) {
+			}
+		}
+
+		// Overflow
+		byte[] src = { 1, 2, 3, 4, 5, 6, 7, 8, 9, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+				(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF };
+		assertEquals(9, ILIntCodec.validate(src, 0, src.length, 9));
+		try {
+			ILIntCodec.validate(src, 0, src.length, 10);
+			fail();
+		} catch (ILIntException e) {
+		}
+	}
 }
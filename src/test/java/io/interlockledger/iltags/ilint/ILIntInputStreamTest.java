@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.ilint;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+public class ILIntInputStreamTest {
+
+	private static final long[] VALUES = { 0, 247, 248, 0xFFFF + 248, 0xFFFFFFFFl + 248, Long.MAX_VALUE,
+			Long.MIN_VALUE };
+
+	/**
+	 * Returns at most maxRead bytes per read call and counts the calls.
+	 */
+	private static class SlowInputStream extends FilterInputStream {
+
+		private final int maxRead;
+
+		private int reads;
+
+		public SlowInputStream(InputStream in, int maxRead) {
+			super(in);
+			this.maxRead = maxRead;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			this.reads++;
+			return super.read(b, off, Math.min(len, this.maxRead));
+		}
+	}
+
+	private static byte[] createSample(int repeat) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (int i = 0; i < repeat; i++) {
+			for (long v : VALUES) {
+				ILIntCodec.encode(v, out);
+			}
+		}
+		return out.toByteArray();
+	}
+
+	@Test
+	public void testILIntInputStream() throws Exception {
+
+		try (ILIntInputStream in = new ILIntInputStream(new ByteArrayInputStream(new byte[0]))) {
+			assertEquals(0, in.getBuffered());
+			assertFalse(in.markSupported());
+		}
+		new ILIntInputStream(new ByteArrayInputStream(new byte[0]), ILIntInputStream.MIN_BUFFER_SIZE).close();
+		try {
+			new ILIntInputStream(new ByteArrayInputStream(new byte[0]), ILIntInputStream.MIN_BUFFER_SIZE - 1);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	@Test
+	public void testRead() throws Exception {
+		byte[] sample = new byte[100];
+		for (int i = 0; i < sample.length; i++) {
+			sample[i] = (byte) i;
+		}
+
+		ILIntInputStream in = new ILIntInputStream(new ByteArrayInputStream(sample),
+				ILIntInputStream.MIN_BUFFER_SIZE);
+		assertEquals(0, in.read());
+		byte[] tmp = new byte[10];
+		assertEquals(10, in.read(tmp, 0, 10));
+		assertEquals(1, tmp[0]);
+		assertEquals(5, in.getBuffered());
+		assertEquals(5, in.skip(10));
+		// Large reads bypass the buffer
+		tmp = new byte[32];
+		assertEquals(32, in.read(tmp));
+		assertEquals(16, tmp[0]);
+		assertEquals(0, in.getBuffered());
+		assertEquals(48, in.read());
+		assertEquals(100 - 49, in.available());
+		assertEquals(0, in.read(tmp, 0, 0));
+		try {
+			in.read(tmp, 30, 3);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+		}
+		try {
+			in.reset();
+			fail();
+		} catch (IOException e) {
+		}
+		while (in.read() >= 0) {
+		}
+		assertEquals(-1, in.read(tmp));
+		in.close();
+	}
+
+	@Test
+	public void testReadILInt() throws Exception {
+		byte[] sample = createSample(100);
+
+		// One byte at a time
+		ILIntInputStream in = new ILIntInputStream(new SlowInputStream(new ByteArrayInputStream(sample), 1),
+				ILIntInputStream.MIN_BUFFER_SIZE);
+		for (int i = 0; i < 100; i++) {
+			for (long v : VALUES) {
+				assertEquals(v, in.readILInt());
+			}
+		}
+		try {
+			in.readILInt();
+			fail();
+		} catch (ILIntException e) {
+		}
+
+		// The whole sample is read in bulk
+		SlowInputStream counter = new SlowInputStream(new ByteArrayInputStream(sample), Integer.MAX_VALUE);
+		in = new ILIntInputStream(counter);
+		for (int i = 0; i < 100; i++) {
+			for (long v : VALUES) {
+				assertEquals(v, in.readILInt());
+			}
+		}
+		assertEquals(1, counter.reads);
+
+		// Mixed with payloads
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ILIntCodec.encode(3, out);
+		out.write(new byte[] { 1, 2, 3 });
+		ILIntCodec.encode(Long.MAX_VALUE, out);
+		in = new ILIntInputStream(new ByteArrayInputStream(out.toByteArray()));
+		assertEquals(3, ILIntCodec.decode(in));
+		byte[] payload = new byte[3];
+		assertEquals(3, in.read(payload));
+		assertArrayEquals(new byte[] { 1, 2, 3 }, payload);
+		assertEquals(Long.MAX_VALUE, ILIntCodec.decode((InputStream) in));
+
+		// Truncated
+		byte[] enc = createSample(1);
+		for (int size = 0; size < 9; size++) {
+			// Cuts Long.MAX_VALUE
+			in = new ILIntInputStream(new ByteArrayInputStream(enc, 0, 12 + size));
+			for (int i = 0; i < 5; i++) {
+				assertEquals(VALUES[i], in.readILInt());
+			}
+			try {
+				in.readILInt();
+				fail();
+			} catch (ILIntException e) {
+			}
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.ilint;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ILSignedIntCodecTest {
+
+	private static final long[] SAMPLE_VALUES = { 0, -1, 1, -2, 2, 123, -123, 124, -124, 125, -125, 0xFFFF, -0xFFFF,
+			Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE };
+
+	@Test
+	public void testToUnsigned() {
+
+		assertEquals(0, ILSignedIntCodec.toUnsigned(0));
+		assertEquals(1, ILSignedIntCodec.toUnsigned(-1));
+		assertEquals(2, ILSignedIntCodec.toUnsigned(1));
+		assertEquals(3, ILSignedIntCodec.toUnsigned(-2));
+		assertEquals(4, ILSignedIntCodec.toUnsigned(2));
+		assertEquals(0xFFFFFFFFFFFFFFFEl, ILSignedIntCodec.toUnsigned(Long.MAX_VALUE));
+		assertEquals(0xFFFFFFFFFFFFFFFFl, ILSignedIntCodec.toUnsigned(Long.MIN_VALUE));
+	}
+
+	@Test
+	public void testToSigned() {
+		Random random = new Random();
+
+		for (long v : SAMPLE_VALUES) {
+			assertEquals(v, ILSignedIntCodec.toSigned(ILSignedIntCodec.toUnsigned(v)));
+		}
+		for (int i = 0; i < 10000; i++) {
+			long v = random.nextLong() >> random.nextInt(64);
+			assertEquals(v, ILSignedIntCodec.toSigned(ILSignedIntCodec.toUnsigned(v)));
+		}
+	}
+
+	@Test
+	public void testEncodeDecodeByteBuffer() throws Exception {
+
+		for (long v : SAMPLE_VALUES) {
+			if (v == Long.MIN_VALUE) {
+				// Maps into the largest ILInt
+				continue;
+			}
+			ByteBuffer buff = ByteBuffer.allocate(9);
+			int size = ILSignedIntCodec.encode(v, buff);
+			assertEquals(ILSignedIntCodec.getEncodedSize(v), size);
+			assertEquals(size, buff.position());
+			buff.rewind();
+			assertEquals(v, ILSignedIntCodec.decode(buff));
+			assertEquals(size, buff.position());
+		}
+	}
+
+	@Test
+	public void testEncodeDecodeStream() throws Exception {
+
+		for (long v : SAMPLE_VALUES) {
+			if (v == Long.MIN_VALUE) {
+				continue;
+			}
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			int size = ILSignedIntCodec.encode(v, out);
+			assertEquals(ILSignedIntCodec.getEncodedSize(v), size);
+			assertEquals(size, out.size());
+			assertEquals(v, ILSignedIntCodec.decode(new ByteArrayInputStream(out.toByteArray())));
+		}
+	}
+
+	@Test
+	public void testGetEncodedSize() {
+
+		for (long v = -124; v < 124; v++) {
+			assertEquals(1, ILSignedIntCodec.getEncodedSize(v));
+		}
+		assertEquals(2, ILSignedIntCodec.getEncodedSize(-125));
+		assertEquals(2, ILSignedIntCodec.getEncodedSize(124));
+		assertEquals(9, ILSignedIntCodec.getEncodedSize(Long.MAX_VALUE));
+		assertEquals(9, ILSignedIntCodec.getEncodedSize(Long.MIN_VALUE));
+	}
+}
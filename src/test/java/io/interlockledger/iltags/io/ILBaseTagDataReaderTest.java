@@ -17,11 +17,13 @@ package io.interlockledger.iltags.io;
 
 import static io.interlockledger.iltags.TestUtils.SAMPLE;
 import static io.interlockledger.iltags.TestUtils.SAMPLE_BIN;
+import static io.interlockledger.iltags.TestUtils.createSampleByteArray;
 import static io.interlockledger.iltags.TestUtils.genRandomString;
 import static io.interlockledger.iltags.TestUtils.stringToUTF8;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -29,7 +31,9 @@ import java.nio.ByteBuffer;
 
 import org.junit.Test;
 
+import io.interlockledger.iltags.ILStandardTags;
 import io.interlockledger.iltags.ILTagException;
+import io.interlockledger.iltags.ILTagFactory;
 import io.interlockledger.iltags.ilint.ILIntCodec;
 
 public class ILBaseTagDataReaderTest {
@@ -214,6 +218,53 @@ public class ILBaseTagDataReaderTest {
 		assertEquals(0, r.getRemaining());
 	}
 
+	@Test
+	public void testPushLimitDeep() throws Exception {
+		TestTagDataReader r = new TestTagDataReader();
+
+		int depth = ILBaseTagDataReader.DEFAULT_MAX_LIMIT_DEPTH;
+		for (int i = 0; i < depth; i++) {
+			r.pushLimit(depth - i);
+			assertEquals(depth - i, r.getRemaining());
+		}
+		try {
+			r.pushLimit(0);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+		for (int i = depth - 1; i >= 0; i--) {
+			assertEquals(depth - i, r.getRemaining());
+			r.popLimit(false);
+		}
+		assertFalse(r.isLimited());
+	}
+
+	@Test
+	public void testPushLimitMaxDepth() throws Exception {
+		ILTagFactory factory = new ILTagFactory();
+
+		// Deeply nested sequences
+		byte[] nested = new byte[0];
+		for (int i = 0; i < 1000; i++) {
+			ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+			w.writeILInt(ILStandardTags.TAG_ILTAG_SEQ.ordinal());
+			w.writeILInt(nested.length);
+			w.writeBytes(nested);
+			nested = w.toByteArray();
+		}
+
+		ILMemoryTagDataReader r = new ILMemoryTagDataReader(nested);
+		try {
+			factory.deserialize(r);
+			fail();
+		} catch (ILTagException e) {
+		}
+
+		r = new ILMemoryTagDataReader(nested);
+		r.setMaxLimitDepth(2000);
+		assertNotNull(factory.deserialize(r));
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void testPushLimitFailNegative() {
 		TestTagDataReader r = new TestTagDataReader();
@@ -460,6 +511,36 @@ public class ILBaseTagDataReaderTest {
 		r.readShort();
 	}
 
+	@Test
+	public void testReadSlice() throws Exception {
+		byte[] src = createSampleByteArray(16);
+		TestTagDataReader2 r = new TestTagDataReader2(ByteBuffer.wrap(src));
+
+		r.skip(2);
+		ByteBuffer v = r.readSlice(4);
+		assertEquals(6, r.getOffset());
+		assertTrue(v.isReadOnly());
+		assertEquals(0, v.position());
+		assertEquals(4, v.limit());
+		assertEquals(0x02030405, v.getInt(0));
+		// It is a copy
+		src[2] = 0;
+		assertEquals(2, v.get(0));
+
+		r.pushLimit(4);
+		try {
+			r.readSlice(5);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+		try {
+			r.readSlice(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+		assertEquals(0, r.readSlice(0).remaining());
+	}
+
 	@Test
 	public void testReadStringLong() throws Exception {
 
@@ -552,6 +633,52 @@ public class ILBaseTagDataReaderTest {
 		assertEquals(SAMPLE, r.readString(SAMPLE_BIN.length));
 	}
 
+	@Test
+	public void testReset() throws Exception {
+		TestTagDataReader r = new TestTagDataReader();
+
+		r.skip(10);
+		r.pushLimit(10);
+		r.pushLimit(5);
+		r.reset();
+		assertEquals(0, r.getOffset());
+		assertFalse(r.isLimited());
+		try {
+			r.popLimit(false);
+			fail();
+		} catch (IllegalStateException e) {
+		}
+	}
+
+	@Test
+	public void testSetMaxLimitDepth() throws Exception {
+		TestTagDataReader r = new TestTagDataReader();
+
+		assertEquals(ILBaseTagDataReader.DEFAULT_MAX_LIMIT_DEPTH, r.getMaxLimitDepth());
+		r.setMaxLimitDepth(2);
+		assertEquals(2, r.getMaxLimitDepth());
+		r.pushLimit(10);
+		r.pushLimit(9);
+		try {
+			r.pushLimit(8);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+		try {
+			r.setMaxLimitDepth(1);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+		r.popLimit(false);
+		r.setMaxLimitDepth(1);
+		assertEquals(1, r.getMaxLimitDepth());
+		try {
+			r.setMaxLimitDepth(0);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
 	@Test
 	public void testSkip() throws Exception {
 		TestTagDataReader r = new TestTagDataReader();
@@ -572,6 +699,43 @@ public class ILBaseTagDataReaderTest {
 		r.skip(1);
 	}
 
+	@Test
+	public void testSkipILInt() throws Exception {
+		long[] values = { 0, 247, 248, 0xFFFF + 248, 0xFFFFFFFFl + 248, Long.MAX_VALUE, Long.MIN_VALUE };
+
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		for (long v : values) {
+			w.writeILInt(v);
+		}
+		w.writeByte((byte) 0x55);
+		byte[] enc = w.toByteArray();
+
+		for (int n = 0; n <= values.length; n++) {
+			TestTagDataReader2 r = new TestTagDataReader2(ByteBuffer.wrap(enc));
+			r.skipILInt(n);
+			if (n < values.length) {
+				assertEquals(values[n], r.readILInt());
+			} else {
+				assertEquals(0x55, r.readByte());
+			}
+		}
+
+		TestTagDataReader2 r = new TestTagDataReader2(ByteBuffer.wrap(enc));
+		r.pushLimit(enc.length - 2);
+		try {
+			r.skipILInt(values.length);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSkipILIntFail() throws Exception {
+		TestTagDataReader r = new TestTagDataReader();
+
+		r.skipILInt(-1);
+	}
+
 	@Test
 	public void testUpdateOffset() throws ILTagException {
 		TestTagDataReader r = new TestTagDataReader();
@@ -21,9 +21,11 @@ import static io.interlockledger.iltags.TestUtils.UTF8;
 import static io.interlockledger.iltags.TestUtils.genRandomString;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Random;
 
 import org.junit.Test;
@@ -86,6 +88,16 @@ public class ILBaseTagDataWriterTest {
 		assertEquals(0, w.getOffset());
 	}
 
+	@Test
+	public void testReset() throws Exception {
+		TestBaseTagDataWriter w = new TestBaseTagDataWriter();
+
+		w.writeInt(0);
+		assertEquals(4, w.getOffset());
+		w.reset();
+		assertEquals(0, w.getOffset());
+	}
+
 	@Test
 	public void testUpdateOffset() {
 		TestBaseTagDataWriter w = new TestBaseTagDataWriter();
@@ -178,6 +190,24 @@ public class ILBaseTagDataWriterTest {
 		w.writeBytes(new byte[1], 0, 1);
 	}
 
+	@Test
+	public void testWriteBytesByteBuffer() throws Exception {
+		byte[] bin = new byte[20000];
+		new Random().nextBytes(bin);
+		TestBaseTagDataWriter w = new TestBaseTagDataWriter();
+
+		ByteBuffer b = ByteBuffer.wrap(bin, 1, 10).slice();
+		w.writeBytes(b);
+		assertEquals(10, b.position());
+		assertEquals(10, w.getOffset());
+		// Read only buffers do not expose the array
+		b = ByteBuffer.wrap(bin, 11, bin.length - 11).asReadOnlyBuffer();
+		w.writeBytes(b);
+		assertFalse(b.hasRemaining());
+		assertEquals(bin.length - 1, w.getOffset());
+		assertArrayEquals(Arrays.copyOfRange(bin, 1, bin.length), w.toByteArray());
+	}
+
 	@Test
 	public void testWriteDouble() throws Exception {
 		Random r = new Random();
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+import io.interlockledger.iltags.ILTagException;
+import io.interlockledger.iltags.TestUtils;
+import io.interlockledger.iltags.io.ILInputStreamTagDataReaderTest.RandomSkipInputStream;
+
+public class ILBufferedInputStreamTagDataReaderTest {
+
+	private static final long[] ILINT_VALUES = { 0, 247, 248, 0xFFFF + 248, 0xFFFFFFFFl + 248, Long.MAX_VALUE,
+			Long.MIN_VALUE };
+
+	private InputStream createSample(int n) {
+		byte[] bin = new byte[n];
+		for (int i = 0; i < n; i++) {
+			bin[i] = (byte) i;
+		}
+		return new ByteArrayInputStream(bin);
+	}
+
+	private static byte[] createPrimitives(int count) throws Exception {
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		for (int i = 0; i < count; i++) {
+			w.writeByte((byte) 0xFA);
+			w.writeShort((short) 0xFEDC);
+			w.writeInt(0xFEDCBA98);
+			w.writeLong(0xFEDCBA9876543210l);
+			w.writeFloat(1.5f);
+			w.writeDouble(-2.25);
+			for (long v : ILINT_VALUES) {
+				w.writeILInt(v);
+			}
+			w.writeString("ação😀");
+		}
+		return w.toByteArray();
+	}
+
+	@Test
+	public void testClose() throws Exception {
+		TestInputStream in = new TestInputStream(createSample(0));
+		ILBufferedInputStreamTagDataReader r = new ILBufferedInputStreamTagDataReader(in);
+
+		assertFalse(in.isCloseUsed());
+		r.close();
+		assertTrue(in.isCloseUsed());
+	}
+
+	@Test
+	public void testILBufferedInputStreamTagDataReader() throws Exception {
+
+		try (ILBufferedInputStreamTagDataReader r = new ILBufferedInputStreamTagDataReader(createSample(0))) {
+			assertEquals(ILBufferedInputStreamTagDataReader.DEFAULT_BUFFER_SIZE, r.getBufferSize());
+			assertEquals(0, r.getBuffered());
+		}
+		try (ILBufferedInputStreamTagDataReader r = new ILBufferedInputStreamTagDataReader(createSample(0),
+				ILBufferedInputStreamTagDataReader.MIN_BUFFER_SIZE)) {
+			assertEquals(ILBufferedInputStreamTagDataReader.MIN_BUFFER_SIZE, r.getBufferSize());
+		}
+		try {
+			new ILBufferedInputStreamTagDataReader(createSample(0),
+					ILBufferedInputStreamTagDataReader.MIN_BUFFER_SIZE - 1);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	@Test
+	public void testReadByteCore() throws Exception {
+
+		try (ILBufferedInputStreamTagDataReader r = new ILBufferedInputStreamTagDataReader(createSample(100), 16)) {
+			for (int i = 0; i < 100; i++) {
+				assertEquals((byte) i, r.readByteCore());
+			}
+			try {
+				r.readByteCore();
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testReadBytesCore() throws Exception {
+
+		for (int size = 0; size < 64; size++) {
+			for (int chunk = 1; chunk < 40; chunk += 3) {
+				try (ILBufferedInputStreamTagDataReader r = new ILBufferedInputStreamTagDataReader(
+						createSample(size), 16)) {
+					byte[] bin = new byte[size];
+					for (int off = 0; off < size; off += chunk) {
+						r.readBytesCore(bin, off, Math.min(chunk, size - off));
+					}
+					byte[] expected = new byte[size];
+					for (int k = 0; k < size; k++) {
+						expected[k] = (byte) k;
+					}
+					assertArrayEquals(expected, bin);
+					try {
+						r.readBytesCore(new byte[1], 0, 1);
+						fail();
+					} catch (ILTagNotEnoughDataException e) {
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testReadPrimitives() throws Exception {
+		byte[] enc = createPrimitives(20);
+		int stringSize = UTF8Utils.getEncodedSize("ação😀");
+
+		for (int bufferSize = 16; bufferSize < 80; bufferSize += 7) {
+			try (ILBufferedInputStreamTagDataReader r = new ILBufferedInputStreamTagDataReader(
+					new ByteArrayInputStream(enc), bufferSize)) {
+				for (int i = 0; i < 20; i++) {
+					assertEquals((byte) 0xFA, r.readByte());
+					assertEquals((short) 0xFEDC, r.readShort());
+					assertEquals(0xFEDCBA98, r.readInt());
+					assertEquals(0xFEDCBA9876543210l, r.readLong());
+					assertEquals(1.5f, r.readFloat(), 0.0f);
+					assertEquals(-2.25, r.readDouble(), 0.0);
+					for (long v : ILINT_VALUES) {
+						assertEquals(v, r.readILInt());
+					}
+					assertEquals("ação😀", r.readString(stringSize));
+				}
+				assertEquals(enc.length, r.getOffset());
+				try {
+					r.readILInt();
+					fail();
+				} catch (ILTagNotEnoughDataException e) {
+				}
+			}
+		}
+
+		// Truncated
+		for (int size = 0; size < enc.length / 20; size++) {
+			try (ILBufferedInputStreamTagDataReader r = new ILBufferedInputStreamTagDataReader(
+					new ByteArrayInputStream(enc, 0, size), 16)) {
+				r.readByte();
+				r.readShort();
+				r.readInt();
+				r.readLong();
+				r.readFloat();
+				r.readDouble();
+				for (int i = 0; i < ILINT_VALUES.length; i++) {
+					r.readILInt();
+				}
+				r.readString(stringSize);
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+		}
+
+		// Limited
+		try (ILBufferedInputStreamTagDataReader r = new ILBufferedInputStreamTagDataReader(
+				new ByteArrayInputStream(enc))) {
+			r.pushLimit(1);
+			try {
+				r.readShort();
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+			r.popLimit(false);
+			r.skip(27);
+			assertEquals(0, r.readILInt());
+			assertEquals(247, r.readILInt());
+			r.pushLimit(1);
+			try {
+				r.readILInt();
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testReadString() throws Exception {
+		String s = TestUtils.genRandomString(100);
+		byte[] enc = s.getBytes(UTF8Utils.UTF8);
+
+		// Larger than the buffer
+		try (ILBufferedInputStreamTagDataReader r = new ILBufferedInputStreamTagDataReader(
+				new ByteArrayInputStream(enc), 16)) {
+			assertEquals(s, r.readString(enc.length));
+		}
+		try (ILBufferedInputStreamTagDataReader r = new ILBufferedInputStreamTagDataReader(
+				new ByteArrayInputStream(enc), 16)) {
+			StringBuilder sb = new StringBuilder();
+			assertEquals(s.length(), r.readString(enc.length, sb));
+			assertEquals(s, sb.toString());
+		}
+
+		// Inside the buffer
+		try (ILBufferedInputStreamTagDataReader r = new ILBufferedInputStreamTagDataReader(
+				new ByteArrayInputStream(enc))) {
+			StringBuilder sb = new StringBuilder();
+			assertEquals(s.length(), r.readString(enc.length, sb));
+			assertEquals(s, sb.toString());
+		}
+
+		// Truncated character
+		enc = "€".getBytes(UTF8Utils.UTF8);
+		try (ILBufferedInputStreamTagDataReader r = new ILBufferedInputStreamTagDataReader(
+				new ByteArrayInputStream(enc))) {
+			r.readString(2);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+
+		// Invalid character
+		try (ILBufferedInputStreamTagDataReader r = new ILBufferedInputStreamTagDataReader(
+				new ByteArrayInputStream(new byte[] { (byte) 0xFF }))) {
+			r.readString(1);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+			fail();
+		} catch (ILTagException e) {
+		}
+	}
+
+	@Test
+	public void testReset() throws Exception {
+
+		try (ILBufferedInputStreamTagDataReader r = new ILBufferedInputStreamTagDataReader(createSample(100), 16)) {
+			assertEquals(0, r.readByte());
+			assertEquals(15, r.getBuffered());
+			r.reset(createSample(4));
+			assertEquals(0, r.getBuffered());
+			assertEquals(0, r.getOffset());
+			assertEquals(0x00010203, r.readInt());
+			try {
+				r.readByte();
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testSkipCore() throws Exception {
+
+		for (int bufferSize = 16; bufferSize < 300; bufferSize += 31) {
+			try (ILBufferedInputStreamTagDataReader r = new ILBufferedInputStreamTagDataReader(
+					new RandomSkipInputStream(createSample(256)), bufferSize)) {
+				assertEquals(0, r.readByte());
+				r.skip(10);
+				assertEquals(11, r.readByte());
+				r.skip(243);
+				assertEquals((byte) 0xFF, r.readByte());
+			}
+			try (ILBufferedInputStreamTagDataReader r = new ILBufferedInputStreamTagDataReader(
+					new TestInputStream(createSample(256)), bufferSize)) {
+				assertEquals(0, r.readByte());
+				r.skip(254);
+				assertEquals((byte) 0xFF, r.readByte());
+			}
+		}
+	}
+
+	@Test(expected = ILTagNotEnoughDataException.class)
+	public void testSkipCoreFail() throws Exception {
+
+		try (ILBufferedInputStreamTagDataReader r = new ILBufferedInputStreamTagDataReader(
+				new TestInputStream(createSample(256)), 16)) {
+			r.readByte();
+			r.skip(256);
+		}
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import static io.interlockledger.iltags.TestUtils.createSampleByteArray;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import io.interlockledger.iltags.ILTagException;
+
+public class ILBufferedOutputStreamTagDataWriterTest {
+
+	@Test
+	public void testILBufferedOutputStreamTagDataWriter() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (ILBufferedOutputStreamTagDataWriter w = new ILBufferedOutputStreamTagDataWriter(out)) {
+			assertSame(out, w.out);
+			assertEquals(ILBufferedOutputStreamTagDataWriter.DEFAULT_BUFFER_SIZE, w.getBufferSize());
+			assertEquals(0, w.getBuffered());
+		}
+	}
+
+	@Test
+	public void testILBufferedOutputStreamTagDataWriterInt() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (ILBufferedOutputStreamTagDataWriter w = new ILBufferedOutputStreamTagDataWriter(out,
+				ILBufferedOutputStreamTagDataWriter.MIN_BUFFER_SIZE)) {
+			assertEquals(ILBufferedOutputStreamTagDataWriter.MIN_BUFFER_SIZE, w.getBufferSize());
+		}
+		try {
+			new ILBufferedOutputStreamTagDataWriter(out, ILBufferedOutputStreamTagDataWriter.MIN_BUFFER_SIZE - 1);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	@Test
+	public void testClose() throws Exception {
+		ByteArrayOutputStream bOut = new ByteArrayOutputStream();
+		TestOutputStream out = new TestOutputStream(bOut);
+		ILBufferedOutputStreamTagDataWriter w = new ILBufferedOutputStreamTagDataWriter(out);
+
+		w.writeInt(0x00010203);
+		assertEquals(0, bOut.size());
+		w.close();
+		assertTrue(out.isCloseUsed());
+		assertArrayEquals(createSampleByteArray(4), bOut.toByteArray());
+	}
+
+	@Test
+	public void testCloseFail() throws Exception {
+		TestOutputStream out = new TestOutputStream(new ByteArrayOutputStream());
+		ILBufferedOutputStreamTagDataWriter w = new ILBufferedOutputStreamTagDataWriter(out);
+
+		w.writeByte((byte) 0);
+		out.setForError(true);
+		try {
+			w.close();
+			fail();
+		} catch (IOException e) {
+		}
+		// The stream is closed anyway
+		assertTrue(out.isCloseUsed());
+	}
+
+	@Test
+	public void testFlush() throws Exception {
+		ByteArrayOutputStream bOut = new ByteArrayOutputStream();
+		TestOutputStream out = new TestOutputStream(bOut);
+		ILBufferedOutputStreamTagDataWriter w = new ILBufferedOutputStreamTagDataWriter(out);
+
+		w.writeShort((short) 0x0001);
+		assertEquals(2, w.getBuffered());
+		assertFalse(out.isFlushUsed());
+		w.flush();
+		assertTrue(out.isFlushUsed());
+		assertEquals(0, w.getBuffered());
+		assertArrayEquals(createSampleByteArray(2), bOut.toByteArray());
+
+		w.writeByte((byte) 0);
+		out.setForError(true);
+		try {
+			w.flush();
+			fail();
+		} catch (IOException e) {
+		}
+	}
+
+	@Test
+	public void testReset() throws Exception {
+		ByteArrayOutputStream out1 = new ByteArrayOutputStream();
+		ByteArrayOutputStream out2 = new ByteArrayOutputStream();
+
+		try (ILBufferedOutputStreamTagDataWriter w = new ILBufferedOutputStreamTagDataWriter(out1)) {
+			w.writeInt(0x01020304);
+			w.flush();
+			w.writeInt(0x01020304);
+			w.reset(out2);
+			assertSame(out2, w.out);
+			assertEquals(0, w.getOffset());
+			assertEquals(0, w.getBuffered());
+			w.writeShort((short) 0x0506);
+			assertEquals(2, w.getOffset());
+		}
+		assertArrayEquals(new byte[] { 1, 2, 3, 4 }, out1.toByteArray());
+		assertArrayEquals(new byte[] { 5, 6 }, out2.toByteArray());
+	}
+
+	@Test
+	public void testWriteByteCore() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+
+		try (ILBufferedOutputStreamTagDataWriter w = new ILBufferedOutputStreamTagDataWriter(out,
+				ILBufferedOutputStreamTagDataWriter.MIN_BUFFER_SIZE)) {
+			for (int i = 0; i < 128; i++) {
+				w.writeByte((byte) i);
+				expected.write(i);
+				assertEquals(expected.size() - out.size(), w.getBuffered());
+			}
+		}
+		assertArrayEquals(expected.toByteArray(), out.toByteArray());
+	}
+
+	@Test
+	public void testWriteByteCoreFail() throws Exception {
+		TestOutputStream out = new TestOutputStream(new ByteArrayOutputStream());
+		ILBufferedOutputStreamTagDataWriter w = new ILBufferedOutputStreamTagDataWriter(out,
+				ILBufferedOutputStreamTagDataWriter.MIN_BUFFER_SIZE);
+
+		w.writeBytes(new byte[ILBufferedOutputStreamTagDataWriter.MIN_BUFFER_SIZE]);
+		out.setForError(true);
+		try {
+			w.writeByte((byte) 0);
+			fail();
+		} catch (ILTagException e) {
+			assertTrue(e.getCause() instanceof IOException);
+		}
+		try {
+			w.writeInt(0);
+			fail();
+		} catch (ILTagException e) {
+			assertTrue(e.getCause() instanceof IOException);
+		}
+	}
+
+	@Test
+	public void testWriteBytesCore() throws Exception {
+		Random r = new Random();
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (ILBufferedOutputStreamTagDataWriter w = new ILBufferedOutputStreamTagDataWriter(out,
+				ILBufferedOutputStreamTagDataWriter.MIN_BUFFER_SIZE)) {
+			long offs = 0;
+			for (int i = 0; i < 4; i++) {
+				for (int size = 0; size < 40; size++) {
+					byte[] bin = new byte[i + size];
+					r.nextBytes(bin);
+					w.writeBytes(bin, i, size);
+					expected.write(bin, i, size);
+					offs += size;
+					assertEquals(offs, w.getOffset());
+				}
+			}
+		}
+		assertArrayEquals(expected.toByteArray(), out.toByteArray());
+	}
+
+	@Test
+	public void testWriteBytesCoreFail() throws Exception {
+		TestOutputStream out = new TestOutputStream(new ByteArrayOutputStream());
+		ILBufferedOutputStreamTagDataWriter w = new ILBufferedOutputStreamTagDataWriter(out,
+				ILBufferedOutputStreamTagDataWriter.MIN_BUFFER_SIZE);
+
+		w.writeByte((byte) 0);
+		out.setForError(true);
+		try {
+			w.writeBytes(new byte[ILBufferedOutputStreamTagDataWriter.MIN_BUFFER_SIZE]);
+			fail();
+		} catch (ILTagException e) {
+			assertTrue(e.getCause() instanceof IOException);
+		}
+	}
+
+	@Test
+	public void testWritePrimitives() throws Exception {
+		long[] ilints = { 0, 247, 248, 0xFFFF + 248, 0xFFFFFFFFl + 248, Long.MAX_VALUE, Long.MIN_VALUE };
+		ILMemoryTagDataWriter expected = new ILMemoryTagDataWriter();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ILBufferedOutputStreamTagDataWriter w = new ILBufferedOutputStreamTagDataWriter(out,
+				ILBufferedOutputStreamTagDataWriter.MIN_BUFFER_SIZE);
+
+		for (int i = 0; i < 4; i++) {
+			for (ILTagDataWriter o : new ILTagDataWriter[] { expected, w }) {
+				o.writeByte((byte) 0xFA);
+				o.writeShort((short) 0xFEDC);
+				o.writeInt(0xFEDCBA98);
+				o.writeLong(0xFEDCBA9876543210l);
+				o.writeFloat(1.5f);
+				o.writeDouble(-2.25);
+				for (long v : ilints) {
+					o.writeILInt(v);
+				}
+				o.writeString("ação😀");
+			}
+		}
+		w.close();
+		assertEquals(expected.getOffset(), w.getOffset());
+		assertArrayEquals(expected.toByteArray(), out.toByteArray());
+	}
+}
@@ -0,0 +1,419 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import static io.interlockledger.iltags.TestUtils.createSampleByteArray;
+import static io.interlockledger.iltags.TestUtils.fillSampleByteArray;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import io.interlockledger.iltags.ILTagException;
+
+public class ILByteArrayTagDataReaderTest {
+
+	private static final long[] ILINT_VALUES = { 0, 247, 248, 0xFFFF + 248, 0xFFFFFFFFl + 248, Long.MAX_VALUE,
+			Long.MIN_VALUE };
+
+	private static byte[] createPrimitives() throws Exception {
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		w.writeByte((byte) 0xFA);
+		w.writeShort((short) 0xFEDC);
+		w.writeInt(0xFEDCBA98);
+		w.writeLong(0xFEDCBA9876543210l);
+		w.writeFloat(1.5f);
+		w.writeDouble(-2.25);
+		for (long v : ILINT_VALUES) {
+			w.writeILInt(v);
+		}
+		return w.toByteArray();
+	}
+
+	@Test
+	public void testILByteArrayTagDataReaderByteArray() throws Exception {
+
+		for (int size = 0; size < 256; size++) {
+			ILByteArrayTagDataReader r = new ILByteArrayTagDataReader(createSampleByteArray(size));
+			byte[] v = new byte[size];
+			r.readBytes(v);
+			assertArrayEquals(createSampleByteArray(size), v);
+			assertEquals(size, r.getOffset());
+			try {
+				r.readByte();
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testILByteArrayTagDataReaderByteArrayIntInt() throws Exception {
+
+		for (int size = 0; size < 16; size++) {
+			for (int i = 0; i < 16; i++) {
+				for (int j = 0; j < 16; j++) {
+					byte[] src = new byte[i + size + j];
+					fillSampleByteArray(src, i, size);
+					ILByteArrayTagDataReader r = new ILByteArrayTagDataReader(src, i, size);
+					assertEquals(0, r.getOffset());
+					byte[] v = new byte[size];
+					r.readBytes(v);
+					assertArrayEquals(createSampleByteArray(size), v);
+					assertEquals(size, r.getOffset());
+					try {
+						r.readByte();
+						fail();
+					} catch (ILTagNotEnoughDataException e) {
+					}
+				}
+			}
+		}
+
+		byte[] src = new byte[4];
+		int[][] invalid = { { -1, 1 }, { 0, -1 }, { 0, 5 }, { 4, 1 }, { 5, 0 } };
+		for (int[] p : invalid) {
+			try {
+				new ILByteArrayTagDataReader(src, p[0], p[1]);
+				fail();
+			} catch (IndexOutOfBoundsException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testPushLimit() throws Exception {
+		ILByteArrayTagDataReader r = new ILByteArrayTagDataReader(createSampleByteArray(16));
+
+		assertFalse(r.isLimited());
+		r.pushLimit(8);
+		assertTrue(r.isLimited());
+		assertEquals(8, r.getRemaining());
+		r.skip(2);
+		r.pushLimit(4);
+		assertEquals(4, r.getRemaining());
+		try {
+			r.pushLimit(5);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+		assertEquals(2, r.readByte());
+		try {
+			r.popLimit(true);
+			fail();
+		} catch (ILTagTooMuchDataException e) {
+		}
+		r.skip(3);
+		try {
+			r.readByte();
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+		r.popLimit(true);
+		assertEquals(2, r.getRemaining());
+		r.popLimit(false);
+		assertFalse(r.isLimited());
+		assertEquals(6, r.readByte());
+		try {
+			r.popLimit(false);
+			fail();
+		} catch (IllegalStateException e) {
+		}
+		try {
+			r.pushLimit(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+
+		// A limit beyond the end of the data
+		r.pushLimit(100);
+		assertEquals(100, r.getRemaining());
+		r.skip(9);
+		try {
+			r.readByte();
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+	}
+
+	@Test
+	public void testPushLimitMaxDepth() throws Exception {
+		ILByteArrayTagDataReader r = new ILByteArrayTagDataReader(new byte[0]);
+
+		assertEquals(ILBaseTagDataReader.DEFAULT_MAX_LIMIT_DEPTH, r.getMaxLimitDepth());
+		r.setMaxLimitDepth(4);
+		for (int i = 0; i < 4; i++) {
+			r.pushLimit(0);
+		}
+		try {
+			r.pushLimit(0);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+		try {
+			r.setMaxLimitDepth(3);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+		for (int i = 0; i < 4; i++) {
+			r.popLimit(true);
+		}
+		assertFalse(r.isLimited());
+	}
+
+	@Test
+	public void testReadPrimitives() throws Exception {
+		byte[] enc = createPrimitives();
+
+		ILByteArrayTagDataReader r = new ILByteArrayTagDataReader(enc);
+		assertEquals((byte) 0xFA, r.readByte());
+		assertEquals((short) 0xFEDC, r.readShort());
+		assertEquals(0xFEDCBA98, r.readInt());
+		assertEquals(0xFEDCBA9876543210l, r.readLong());
+		assertEquals(1.5f, r.readFloat(), 0.0f);
+		assertEquals(-2.25, r.readDouble(), 0.0);
+		for (long v : ILINT_VALUES) {
+			assertEquals(v, r.readILInt());
+		}
+		assertEquals(enc.length, r.getOffset());
+		try {
+			r.readILInt();
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+
+		// Truncated
+		for (int size = 0; size < enc.length; size++) {
+			r = new ILByteArrayTagDataReader(enc, 0, size);
+			try {
+				r.readByte();
+				r.readShort();
+				r.readInt();
+				r.readLong();
+				r.readFloat();
+				r.readDouble();
+				for (int i = 0; i < ILINT_VALUES.length; i++) {
+					r.readILInt();
+				}
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testReadILIntOverflow() throws Exception {
+		byte[] enc = { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+				(byte) 0xFF, (byte) 0xFF };
+
+		ILByteArrayTagDataReader r = new ILByteArrayTagDataReader(enc);
+		try {
+			r.readILInt();
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+			fail();
+		} catch (ILTagException e) {
+		}
+	}
+
+	@Test
+	public void testReadSlice() throws Exception {
+		byte[] src = createSampleByteArray(16);
+		ILByteArrayTagDataReader r = new ILByteArrayTagDataReader(src, 1, 15);
+
+		r.skip(2);
+		ByteBuffer v = r.readSlice(4);
+		assertEquals(6, r.getOffset());
+		assertTrue(v.isReadOnly());
+		assertEquals(0, v.position());
+		assertEquals(4, v.limit());
+		assertEquals(0x03040506, v.getInt(0));
+		// It is a view
+		src[3] = 0;
+		assertEquals(0, v.get(0));
+		assertEquals(7, r.readByte());
+
+		r.pushLimit(4);
+		try {
+			r.readSlice(5);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+		r.popLimit(false);
+		try {
+			r.readSlice(9);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+		try {
+			r.readSlice(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	@Test
+	public void testReadString() throws Exception {
+		String[] samples = { "", "abc", "ção", "€1", "😀!" };
+
+		for (String s : samples) {
+			ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+			w.writeByte((byte) 1);
+			w.writeString(s);
+			int size = UTF8Utils.getEncodedSize(s);
+			w.writeByte((byte) 2);
+			byte[] enc = w.toByteArray();
+
+			ILByteArrayTagDataReader r = new ILByteArrayTagDataReader(enc);
+			assertEquals(1, r.readByte());
+			StringBuilder sb = new StringBuilder();
+			assertEquals(s.length(), r.readString(size, sb));
+			assertEquals(s, sb.toString());
+			assertEquals(2, r.readByte());
+
+			r = new ILByteArrayTagDataReader(enc);
+			r.skip(1);
+			assertEquals(s, r.readString(size));
+		}
+
+		// Truncated character
+		byte[] enc = "€".getBytes(UTF8Utils.UTF8);
+		ILByteArrayTagDataReader r = new ILByteArrayTagDataReader(enc);
+		try {
+			r.readString(2);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+
+		// Not enough data
+		r = new ILByteArrayTagDataReader(enc);
+		try {
+			r.readString(4);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+
+		// Invalid character
+		r = new ILByteArrayTagDataReader(new byte[] { (byte) 0xFF });
+		try {
+			r.readString(1);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+			fail();
+		} catch (ILTagException e) {
+		}
+		try {
+			r.readString(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	@Test
+	public void testReset() throws Exception {
+		byte[] src = createSampleByteArray(16);
+		ILByteArrayTagDataReader r = new ILByteArrayTagDataReader(src);
+
+		r.skip(4);
+		r.pushLimit(2);
+		r.reset(src, 1, 4);
+		assertEquals(0, r.getOffset());
+		assertFalse(r.isLimited());
+		assertEquals(0x01020304, r.readInt());
+		try {
+			r.readByte();
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+		try {
+			r.popLimit(false);
+			fail();
+		} catch (IllegalStateException e) {
+		}
+		try {
+			r.reset(src, 10, 7);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+		}
+
+		r.reset(createSampleByteArray(8));
+		r.skip(7);
+		assertEquals(7, r.readByte());
+	}
+
+	@Test
+	public void testSkip() throws Exception {
+		ILByteArrayTagDataReader r = new ILByteArrayTagDataReader(createSampleByteArray(16));
+
+		r.skip(0);
+		r.skip(4);
+		assertEquals(4, r.readByte());
+		r.skip(11);
+		assertEquals(16, r.getOffset());
+		try {
+			r.skip(1);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+		try {
+			r.skip(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+		try {
+			r.skip(Long.MAX_VALUE);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+	}
+
+	@Test
+	public void testSkipILInt() throws Exception {
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		for (long v : ILINT_VALUES) {
+			w.writeILInt(v);
+		}
+		byte[] enc = w.toByteArray();
+
+		for (int n = 0; n <= ILINT_VALUES.length; n++) {
+			ILByteArrayTagDataReader r = new ILByteArrayTagDataReader(enc);
+			r.skipILInt(n);
+			if (n < ILINT_VALUES.length) {
+				assertEquals(ILINT_VALUES[n], r.readILInt());
+			} else {
+				assertEquals(enc.length, r.getOffset());
+			}
+		}
+
+		ILByteArrayTagDataReader r = new ILByteArrayTagDataReader(enc);
+		r.pushLimit(4);
+		try {
+			r.skipILInt(4);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+		try {
+			r.skipILInt(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import static io.interlockledger.iltags.TestUtils.createSampleByteArray;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import io.interlockledger.iltags.ILTagException;
+
+public class ILByteArrayTagDataWriterTest {
+
+	@Test
+	public void testILByteArrayTagDataWriter() {
+		ILByteArrayTagDataWriter w = new ILByteArrayTagDataWriter();
+
+		assertEquals(0, w.getOffset());
+		assertEquals(0, w.getLength());
+		assertEquals(ILByteArrayTagDataWriter.DEFAULT_INITIAL_CAPACITY, w.getCapacity());
+		assertArrayEquals(new byte[0], w.toByteArray());
+	}
+
+	@Test
+	public void testILByteArrayTagDataWriterInt() {
+
+		assertEquals(0, new ILByteArrayTagDataWriter(0).getCapacity());
+		assertEquals(10, new ILByteArrayTagDataWriter(10).getCapacity());
+		try {
+			new ILByteArrayTagDataWriter(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	@Test
+	public void testEnsureCapacity() throws Exception {
+		ILByteArrayTagDataWriter w = new ILByteArrayTagDataWriter(4);
+
+		w.ensureCapacity(2);
+		assertEquals(4, w.getCapacity());
+		w.ensureCapacity(5);
+		assertEquals(8, w.getCapacity());
+		w.ensureCapacity(100);
+		assertEquals(100, w.getCapacity());
+		try {
+			w.ensureCapacity(Integer.MAX_VALUE);
+			fail();
+		} catch (ILTagException e) {
+		}
+	}
+
+	@Test
+	public void testGetArray() throws Exception {
+		ILByteArrayTagDataWriter w = new ILByteArrayTagDataWriter(4);
+
+		w.writeInt(0x00010203);
+		byte[] a = w.getArray();
+		assertSame(a, w.getArray());
+		assertArrayEquals(createSampleByteArray(4), Arrays.copyOf(a, w.getLength()));
+
+		// Grow
+		w.writeBytes(createSampleByteArray(16), 4, 12);
+		assertEquals(16, w.getLength());
+		assertArrayEquals(createSampleByteArray(16), Arrays.copyOf(w.getArray(), w.getLength()));
+	}
+
+	@Test
+	public void testGetByteBuffer() throws Exception {
+		ILByteArrayTagDataWriter w = new ILByteArrayTagDataWriter();
+
+		w.writeBytes(createSampleByteArray(16));
+		ByteBuffer b = w.getByteBuffer();
+		assertTrue(b.isReadOnly());
+		assertEquals(0, b.position());
+		assertEquals(16, b.limit());
+		assertEquals(0x00010203, b.getInt());
+		// It is a view
+		w.getArray()[4] = 9;
+		assertEquals(9, b.get());
+	}
+
+	@Test
+	public void testReset() throws Exception {
+		ILByteArrayTagDataWriter w = new ILByteArrayTagDataWriter(4);
+
+		w.writeLong(0x0001020304050607l);
+		byte[] a = w.getArray();
+		w.reset();
+		assertEquals(0, w.getOffset());
+		assertEquals(0, w.getLength());
+		assertSame(a, w.getArray());
+		w.writeShort((short) 0x0506);
+		assertEquals(2, w.getOffset());
+		assertArrayEquals(new byte[] { 5, 6 }, w.toByteArray());
+	}
+
+	@Test
+	public void testWriteBytesCore() throws Exception {
+		ILByteArrayTagDataWriter w = new ILByteArrayTagDataWriter(0);
+
+		for (int i = 0; i < 16; i++) {
+			w.writeByte((byte) i);
+		}
+		w.writeBytes(createSampleByteArray(32), 16, 16);
+		assertEquals(32, w.getOffset());
+		assertArrayEquals(createSampleByteArray(32), w.toByteArray());
+
+		try {
+			w.writeBytes(new byte[4], 2, 3);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+		}
+		assertEquals(32, w.getLength());
+	}
+
+	@Test
+	public void testWritePrimitives() throws Exception {
+		long[] ilints = { 0, 247, 248, 0xFFFF + 248, 0xFFFFFFFFl + 248, Long.MAX_VALUE, Long.MIN_VALUE };
+		ILMemoryTagDataWriter expected = new ILMemoryTagDataWriter();
+		ILByteArrayTagDataWriter w = new ILByteArrayTagDataWriter(1);
+
+		for (ILTagDataWriter out : new ILTagDataWriter[] { expected, w }) {
+			out.writeByte((byte) 0xFA);
+			out.writeShort((short) 0xFEDC);
+			out.writeInt(0xFEDCBA98);
+			out.writeLong(0xFEDCBA9876543210l);
+			out.writeFloat(1.5f);
+			out.writeDouble(-2.25);
+			for (long v : ilints) {
+				out.writeILInt(v);
+			}
+			out.writeString("ação😀");
+		}
+		assertEquals(expected.getOffset(), w.getOffset());
+		assertEquals(w.getOffset(), w.getLength());
+		assertArrayEquals(expected.toByteArray(), w.toByteArray());
+	}
+}
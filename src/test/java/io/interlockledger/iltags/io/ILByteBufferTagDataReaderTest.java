@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import static io.interlockledger.iltags.TestUtils.createSampleByteArray;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Test;
+
+import io.interlockledger.iltags.ILTagException;
+
+public class ILByteBufferTagDataReaderTest {
+
+	private static final long[] ILINT_VALUES = { 0, 247, 248, 0xFFFF + 248, 0xFFFFFFFFl + 248, Long.MAX_VALUE,
+			Long.MIN_VALUE };
+
+	private static final String STRING_VALUE = "ação😀";
+
+	private static ByteBuffer[] createBuffers(byte[] data) {
+		ByteBuffer heap = ByteBuffer.allocate(data.length + 4);
+		ByteBuffer direct = ByteBuffer.allocateDirect(data.length + 4);
+		ByteBuffer[] buffers = { heap, direct };
+		for (ByteBuffer b : buffers) {
+			// Padding and little endian ensure that the reader ignores both
+			b.order(ByteOrder.LITTLE_ENDIAN);
+			b.position(2);
+			b.put(data);
+			b.flip();
+			b.position(2);
+		}
+		return buffers;
+	}
+
+	@Test
+	public void testILByteBufferTagDataReader() throws Exception {
+
+		for (ByteBuffer b : createBuffers(createSampleByteArray(16))) {
+			ILByteBufferTagDataReader r = new ILByteBufferTagDataReader(b);
+			byte[] v = new byte[16];
+			r.readBytes(v);
+			assertArrayEquals(createSampleByteArray(16), v);
+			assertEquals(2, b.position());
+			assertEquals(ByteOrder.LITTLE_ENDIAN, b.order());
+			try {
+				r.readByte();
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testReadPrimitives() throws Exception {
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		w.writeByte((byte) 0xFA);
+		w.writeShort((short) 0xFEDC);
+		w.writeInt(0xFEDCBA98);
+		w.writeLong(0xFEDCBA9876543210l);
+		w.writeFloat(1.5f);
+		w.writeDouble(-2.25);
+		for (long v : ILINT_VALUES) {
+			w.writeILInt(v);
+		}
+		w.writeString(STRING_VALUE);
+		byte[] enc = w.toByteArray();
+		int stringSize = UTF8Utils.getEncodedSize(STRING_VALUE);
+
+		for (ByteBuffer b : createBuffers(enc)) {
+			ILByteBufferTagDataReader r = new ILByteBufferTagDataReader(b);
+			assertEquals((byte) 0xFA, r.readByte());
+			assertEquals((short) 0xFEDC, r.readShort());
+			assertEquals(0xFEDCBA98, r.readInt());
+			assertEquals(0xFEDCBA9876543210l, r.readLong());
+			assertEquals(1.5f, r.readFloat(), 0.0f);
+			assertEquals(-2.25, r.readDouble(), 0.0);
+			for (long v : ILINT_VALUES) {
+				assertEquals(v, r.readILInt());
+			}
+			assertEquals(STRING_VALUE, r.readString(stringSize));
+			assertEquals(enc.length, r.getOffset());
+			try {
+				r.readILInt();
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+		}
+
+		// Truncated
+		for (int size = 0; size < enc.length; size++) {
+			for (ByteBuffer b : createBuffers(enc)) {
+				b.limit(b.position() + size);
+				ILByteBufferTagDataReader r = new ILByteBufferTagDataReader(b);
+				try {
+					r.readByte();
+					r.readShort();
+					r.readInt();
+					r.readLong();
+					r.readFloat();
+					r.readDouble();
+					for (int i = 0; i < ILINT_VALUES.length; i++) {
+						r.readILInt();
+					}
+					StringBuilder sb = new StringBuilder();
+					r.readString(stringSize, sb);
+					fail();
+				} catch (ILTagNotEnoughDataException e) {
+				}
+			}
+		}
+
+		// Limited
+		ILByteBufferTagDataReader r = new ILByteBufferTagDataReader(ByteBuffer.wrap(enc));
+		r.pushLimit(1);
+		try {
+			r.readShort();
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+	}
+
+	@Test
+	public void testReadILIntOverflow() throws Exception {
+		byte[] enc = { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+				(byte) 0xFF, (byte) 0xFF };
+
+		for (ByteBuffer b : createBuffers(enc)) {
+			ILByteBufferTagDataReader r = new ILByteBufferTagDataReader(b);
+			try {
+				r.readILInt();
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+				fail();
+			} catch (ILTagException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testReadSlice() throws Exception {
+
+		for (ByteBuffer b : createBuffers(createSampleByteArray(16))) {
+			ILByteBufferTagDataReader r = new ILByteBufferTagDataReader(b);
+			r.skip(2);
+			ByteBuffer v = r.readSlice(4);
+			assertEquals(6, r.getOffset());
+			assertTrue(v.isReadOnly());
+			assertEquals(0, v.position());
+			assertEquals(4, v.limit());
+			assertEquals(0x02030405, v.getInt(0));
+			// It is a view
+			b.put(4, (byte) 0);
+			assertEquals(0, v.get(0));
+			assertEquals(6, r.readByte());
+			try {
+				r.readSlice(10);
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+			try {
+				r.readSlice(-1);
+				fail();
+			} catch (IllegalArgumentException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testReadString() throws Exception {
+		byte[] enc = STRING_VALUE.getBytes(UTF8Utils.UTF8);
+
+		for (ByteBuffer b : createBuffers(enc)) {
+			ILByteBufferTagDataReader r = new ILByteBufferTagDataReader(b);
+			StringBuilder sb = new StringBuilder();
+			assertEquals(STRING_VALUE.length(), r.readString(enc.length, sb));
+			assertEquals(STRING_VALUE, sb.toString());
+		}
+
+		// Truncated character
+		for (ByteBuffer b : createBuffers("€".getBytes(UTF8Utils.UTF8))) {
+			ILByteBufferTagDataReader r = new ILByteBufferTagDataReader(b);
+			try {
+				r.readString(2);
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+		}
+
+		// Invalid character
+		for (ByteBuffer b : createBuffers(new byte[] { (byte) 0xFF })) {
+			ILByteBufferTagDataReader r = new ILByteBufferTagDataReader(b);
+			try {
+				r.readString(1);
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+				fail();
+			} catch (ILTagException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testReset() throws Exception {
+		ByteBuffer[] buffers = createBuffers(createSampleByteArray(16));
+		ILByteBufferTagDataReader r = new ILByteBufferTagDataReader(buffers[0]);
+
+		r.skip(4);
+		r.pushLimit(2);
+		r.reset(buffers[1]);
+		assertEquals(0, r.getOffset());
+		assertFalse(r.isLimited());
+		assertEquals(0x00010203, r.readInt());
+	}
+
+	@Test
+	public void testSkipCore() throws Exception {
+
+		for (ByteBuffer b : createBuffers(createSampleByteArray(16))) {
+			ILByteBufferTagDataReader r = new ILByteBufferTagDataReader(b);
+			r.skip(15);
+			assertEquals(15, r.readByte());
+			try {
+				r.skip(1);
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+		}
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import static io.interlockledger.iltags.TestUtils.createSampleByteArray;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class ILByteBufferTagDataWriterTest {
+
+	private static ByteBuffer[] createBuffers(int size) {
+		ByteBuffer[] buffers = { ByteBuffer.allocate(size), ByteBuffer.allocateDirect(size) };
+		for (ByteBuffer b : buffers) {
+			// The writer must ignore the byte order of the target
+			b.order(ByteOrder.LITTLE_ENDIAN);
+		}
+		return buffers;
+	}
+
+	private static byte[] getWritten(ByteBuffer b) {
+		ByteBuffer d = b.duplicate();
+		d.flip();
+		byte[] ret = new byte[d.remaining()];
+		d.get(ret);
+		return ret;
+	}
+
+	@Test
+	public void testILByteBufferTagDataWriter() throws Exception {
+
+		for (ByteBuffer b : createBuffers(16)) {
+			ILByteBufferTagDataWriter w = new ILByteBufferTagDataWriter(b);
+			assertSame(b, w.getBuffer());
+			assertEquals(0, w.getOffset());
+			assertEquals(16, w.getRemaining());
+		}
+
+		try {
+			new ILByteBufferTagDataWriter(ByteBuffer.allocate(1).asReadOnlyBuffer());
+			fail();
+		} catch (ReadOnlyBufferException e) {
+		}
+	}
+
+	@Test
+	public void testReset() throws Exception {
+		ByteBuffer[] buffers = createBuffers(16);
+		ILByteBufferTagDataWriter w = new ILByteBufferTagDataWriter(buffers[0]);
+
+		w.writeInt(1);
+		w.reset(buffers[1]);
+		assertSame(buffers[1], w.getBuffer());
+		assertEquals(0, w.getOffset());
+		w.writeShort((short) 0x0102);
+		assertArrayEquals(new byte[] { 1, 2 }, getWritten(buffers[1]));
+		assertEquals(4, buffers[0].position());
+	}
+
+	@Test
+	public void testWriteBytesByteBuffer() throws Exception {
+		ByteBuffer src = ByteBuffer.allocateDirect(16);
+		src.put(createSampleByteArray(16));
+
+		for (ByteBuffer b : createBuffers(12)) {
+			ILByteBufferTagDataWriter w = new ILByteBufferTagDataWriter(b);
+			src.position(4);
+			w.writeBytes(src);
+			assertEquals(16, src.position());
+			assertEquals(12, w.getOffset());
+			assertArrayEquals(Arrays.copyOfRange(createSampleByteArray(16), 4, 16), getWritten(b));
+
+			src.position(15);
+			try {
+				w.writeBytes(src);
+				fail();
+			} catch (ILTagTooMuchDataException e) {
+			}
+			assertEquals(15, src.position());
+			assertEquals(12, w.getOffset());
+		}
+	}
+
+	@Test
+	public void testWriteBytesCore() throws Exception {
+
+		for (ByteBuffer b : createBuffers(32)) {
+			b.position(16);
+			ILByteBufferTagDataWriter w = new ILByteBufferTagDataWriter(b.slice());
+			for (int i = 0; i < 8; i++) {
+				w.writeByte((byte) i);
+			}
+			w.writeBytes(createSampleByteArray(16), 8, 8);
+			assertEquals(16, w.getOffset());
+			assertEquals(0, w.getRemaining());
+			assertArrayEquals(createSampleByteArray(16), getWritten(w.getBuffer()));
+			try {
+				w.writeByte((byte) 0);
+				fail();
+			} catch (ILTagTooMuchDataException e) {
+			}
+			try {
+				w.writeBytes(new byte[1]);
+				fail();
+			} catch (ILTagTooMuchDataException e) {
+			}
+			assertEquals(16, w.getOffset());
+			try {
+				w.writeBytes(new byte[4], 2, 3);
+				fail();
+			} catch (IndexOutOfBoundsException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testWritePrimitives() throws Exception {
+		long[] ilints = { 0, 247, 248, 0xFFFF + 248, 0xFFFFFFFFl + 248, Long.MAX_VALUE, Long.MIN_VALUE };
+
+		for (ByteBuffer b : createBuffers(128)) {
+			ILMemoryTagDataWriter expected = new ILMemoryTagDataWriter();
+			ILByteBufferTagDataWriter w = new ILByteBufferTagDataWriter(b);
+
+			for (ILTagDataWriter out : new ILTagDataWriter[] { expected, w }) {
+				out.writeByte((byte) 0xFA);
+				out.writeShort((short) 0xFEDC);
+				out.writeInt(0xFEDCBA98);
+				out.writeLong(0xFEDCBA9876543210l);
+				out.writeFloat(1.5f);
+				out.writeDouble(-2.25);
+				for (long v : ilints) {
+					out.writeILInt(v);
+				}
+				out.writeString("ação😀");
+			}
+			assertEquals(expected.getOffset(), w.getOffset());
+			assertEquals(w.getOffset(), b.position());
+			assertEquals(ByteOrder.LITTLE_ENDIAN, b.order());
+			assertArrayEquals(expected.toByteArray(), getWritten(b));
+		}
+
+		// Overflow
+		for (int size = 0; size < 8; size++) {
+			for (ByteBuffer b : createBuffers(size)) {
+				ILByteBufferTagDataWriter w = new ILByteBufferTagDataWriter(b);
+				try {
+					w.writeLong(0);
+					fail();
+				} catch (ILTagTooMuchDataException e) {
+				}
+				try {
+					w.writeILInt(Long.MAX_VALUE);
+					fail();
+				} catch (ILTagTooMuchDataException e) {
+				}
+				assertEquals(0, b.position());
+				assertEquals(0, w.getOffset());
+			}
+		}
+	}
+}
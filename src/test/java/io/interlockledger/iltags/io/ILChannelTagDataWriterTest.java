@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import static io.interlockledger.iltags.TestUtils.createSampleByteArray;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import org.junit.Test;
+
+import io.interlockledger.iltags.ILTagException;
+import io.interlockledger.iltags.ilint.ILIntCodec;
+
+public class ILChannelTagDataWriterTest {
+
+	@Test
+	public void testILChannelTagDataWriter() throws Exception {
+		WritableByteChannel ch = Channels.newChannel(new ByteArrayOutputStream());
+
+		ILChannelTagDataWriter w = new ILChannelTagDataWriter(ch);
+		assertSame(ch, w.getChannel());
+		assertTrue(w.getBuffer().isDirect());
+		assertEquals(ILChannelTagDataWriter.DEFAULT_BUFFER_SIZE, w.getRemaining());
+
+		ByteBuffer b = ByteBuffer.allocate(ILChannelTagDataWriter.MIN_BUFFER_SIZE);
+		b.position(4);
+		w = new ILChannelTagDataWriter(ch, b);
+		assertSame(b, w.getBuffer());
+		assertEquals(0, b.position());
+		assertEquals(ILChannelTagDataWriter.MIN_BUFFER_SIZE, w.getRemaining());
+
+		try {
+			new ILChannelTagDataWriter(ch, ByteBuffer.allocate(ILChannelTagDataWriter.MIN_BUFFER_SIZE - 1));
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	@Test
+	public void testClose() throws Exception {
+		ByteArrayOutputStream bOut = new ByteArrayOutputStream();
+		TestOutputStream out = new TestOutputStream(bOut);
+		WritableByteChannel ch = Channels.newChannel(out);
+		ILChannelTagDataWriter w = new ILChannelTagDataWriter(ch);
+
+		w.writeInt(0x00010203);
+		assertEquals(0, bOut.size());
+		w.close();
+		assertFalse(ch.isOpen());
+		assertTrue(out.isCloseUsed());
+		assertArrayEquals(createSampleByteArray(4), bOut.toByteArray());
+	}
+
+	@Test
+	public void testFlush() throws Exception {
+		ByteArrayOutputStream bOut = new ByteArrayOutputStream();
+		TestOutputStream out = new TestOutputStream(bOut);
+		ILChannelTagDataWriter w = new ILChannelTagDataWriter(Channels.newChannel(out));
+
+		w.writeShort((short) 0x0001);
+		w.flush();
+		assertArrayEquals(createSampleByteArray(2), bOut.toByteArray());
+		w.flush();
+		assertEquals(2, bOut.size());
+
+		w.writeByte((byte) 2);
+		out.setForError(true);
+		try {
+			w.flush();
+			fail();
+		} catch (IOException e) {
+		}
+	}
+
+	@Test
+	public void testOverflow() throws Exception {
+		ByteArrayOutputStream bOut = new ByteArrayOutputStream();
+		TestOutputStream out = new TestOutputStream(bOut);
+		ILChannelTagDataWriter w = new ILChannelTagDataWriter(Channels.newChannel(out),
+				ByteBuffer.allocate(ILChannelTagDataWriter.MIN_BUFFER_SIZE));
+
+		w.writeLong(0x0001020304050607l);
+		w.writeLong(0x08090A0B0C0D0E0Fl);
+		assertEquals(0, bOut.size());
+		w.writeByte((byte) 16);
+		assertArrayEquals(createSampleByteArray(16), bOut.toByteArray());
+		w.flush();
+		assertArrayEquals(createSampleByteArray(17), bOut.toByteArray());
+
+		w.writeLong(0);
+		w.writeLong(0);
+		out.setForError(true);
+		try {
+			w.writeByte((byte) 0);
+			fail();
+		} catch (ILTagException e) {
+			assertTrue(e.getCause() instanceof IOException);
+		}
+	}
+
+	@Test
+	public void testWriteBytes() throws Exception {
+		byte[] sample = createSampleByteArray(256);
+		ByteBuffer direct = ByteBuffer.allocateDirect(sample.length);
+		direct.put(sample);
+
+		for (int size : new int[] { 1, 15, 16, 17, 100, 256 }) {
+			ByteArrayOutputStream bOut = new ByteArrayOutputStream();
+			ILChannelTagDataWriter w = new ILChannelTagDataWriter(Channels.newChannel(bOut),
+					ByteBuffer.allocateDirect(ILChannelTagDataWriter.MIN_BUFFER_SIZE));
+			ByteArrayOutputStream expected = new ByteArrayOutputStream();
+
+			w.writeByte((byte) 0xFF);
+			expected.write(0xFF);
+			w.writeBytes(sample, 0, size);
+			expected.write(sample, 0, size);
+			direct.limit(size);
+			direct.position(0);
+			w.writeBytes(direct);
+			assertEquals(size, direct.position());
+			expected.write(sample, 0, size);
+			w.writeILInt(Long.MAX_VALUE);
+			ILIntCodec.encode(Long.MAX_VALUE, expected);
+			assertEquals(expected.size(), w.getOffset());
+			w.flush();
+			assertArrayEquals(expected.toByteArray(), bOut.toByteArray());
+		}
+	}
+
+	@Test
+	public void testWritePrimitives() throws Exception {
+		long[] ilints = { 0, 247, 248, 0xFFFF + 248, 0xFFFFFFFFl + 248, Long.MAX_VALUE, Long.MIN_VALUE };
+		ILMemoryTagDataWriter expected = new ILMemoryTagDataWriter();
+		ByteArrayOutputStream bOut = new ByteArrayOutputStream();
+		ILChannelTagDataWriter w = new ILChannelTagDataWriter(Channels.newChannel(bOut),
+				ByteBuffer.allocate(ILChannelTagDataWriter.MIN_BUFFER_SIZE));
+
+		for (int i = 0; i < 4; i++) {
+			for (ILTagDataWriter o : new ILTagDataWriter[] { expected, w }) {
+				o.writeByte((byte) 0xFA);
+				o.writeShort((short) 0xFEDC);
+				o.writeInt(0xFEDCBA98);
+				o.writeLong(0xFEDCBA9876543210l);
+				o.writeFloat(1.5f);
+				o.writeDouble(-2.25);
+				for (long v : ilints) {
+					o.writeILInt(v);
+				}
+				o.writeString("ação😀");
+			}
+		}
+		w.close();
+		assertEquals(expected.getOffset(), w.getOffset());
+		assertArrayEquals(expected.toByteArray(), bOut.toByteArray());
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import static io.interlockledger.iltags.TestUtils.createSampleByteArray;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+public class ILCompositeTagDataReaderTest {
+
+	private static final long[] ILINT_VALUES = { 0, 247, 248, 0xFFFF + 248, 0xFFFFFFFFl + 248, Long.MAX_VALUE,
+			Long.MIN_VALUE };
+
+	private static final String STRING_VALUE = "ação😀";
+
+	private static ByteBuffer[] split(byte[] data, int fragmentSize) {
+		ArrayList<ByteBuffer> fragments = new ArrayList<>();
+		for (int off = 0; off < data.length; off += fragmentSize) {
+			// Add an empty fragment in order to test how they are skipped
+			fragments.add(ByteBuffer.allocate(0));
+			ByteBuffer b = ByteBuffer.wrap(data, off, Math.min(fragmentSize, data.length - off));
+			b.order(ByteOrder.LITTLE_ENDIAN);
+			fragments.add(b);
+		}
+		return fragments.toArray(new ByteBuffer[fragments.size()]);
+	}
+
+	@Test
+	public void testGetAvailable() throws Exception {
+		ByteBuffer[] fragments = split(createSampleByteArray(100), 7);
+		ILCompositeTagDataReader r = new ILCompositeTagDataReader(fragments);
+
+		assertEquals(100, r.getAvailable());
+		r.skip(10);
+		assertEquals(90, r.getAvailable());
+		r.readBytes(new byte[90]);
+		assertEquals(0, r.getAvailable());
+		assertEquals(0, new ILCompositeTagDataReader().getAvailable());
+	}
+
+	@Test
+	public void testILCompositeTagDataReader() throws Exception {
+		ByteBuffer[] fragments = split(createSampleByteArray(16), 5);
+		ILCompositeTagDataReader r = new ILCompositeTagDataReader(fragments);
+
+		r.readBytes(new byte[16]);
+		for (int i = 1; i < fragments.length; i += 2) {
+			assertEquals(i / 2 * 5, fragments[i].position());
+			assertEquals(ByteOrder.LITTLE_ENDIAN, fragments[i].order());
+		}
+
+		r = new ILCompositeTagDataReader();
+		try {
+			r.readByte();
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+	}
+
+	@Test
+	public void testReadBytesCore() throws Exception {
+		byte[] sample = createSampleByteArray(100);
+
+		for (int fragmentSize = 1; fragmentSize < 20; fragmentSize++) {
+			for (int chunk = 1; chunk < 40; chunk += 3) {
+				ILCompositeTagDataReader r = new ILCompositeTagDataReader(split(sample, fragmentSize));
+				byte[] v = new byte[100];
+				for (int off = 0; off < v.length; off += chunk) {
+					r.readBytes(v, off, Math.min(chunk, v.length - off));
+				}
+				assertArrayEquals(sample, v);
+				try {
+					r.readByte();
+					fail();
+				} catch (ILTagNotEnoughDataException e) {
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testReadPrimitives() throws Exception {
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		for (int i = 0; i < 4; i++) {
+			w.writeByte((byte) 0xFA);
+			w.writeShort((short) 0xFEDC);
+			w.writeInt(0xFEDCBA98);
+			w.writeLong(0xFEDCBA9876543210l);
+			w.writeFloat(1.5f);
+			w.writeDouble(-2.25);
+			for (long v : ILINT_VALUES) {
+				w.writeILInt(v);
+			}
+			w.writeString(STRING_VALUE);
+		}
+		byte[] enc = w.toByteArray();
+		int stringSize = UTF8Utils.getEncodedSize(STRING_VALUE);
+
+		for (int fragmentSize = 1; fragmentSize <= enc.length; fragmentSize++) {
+			ILCompositeTagDataReader r = new ILCompositeTagDataReader(split(enc, fragmentSize));
+			for (int i = 0; i < 4; i++) {
+				assertEquals((byte) 0xFA, r.readByte());
+				assertEquals((short) 0xFEDC, r.readShort());
+				assertEquals(0xFEDCBA98, r.readInt());
+				assertEquals(0xFEDCBA9876543210l, r.readLong());
+				assertEquals(1.5f, r.readFloat(), 0.0f);
+				assertEquals(-2.25, r.readDouble(), 0.0);
+				for (long v : ILINT_VALUES) {
+					assertEquals(v, r.readILInt());
+				}
+				assertEquals(STRING_VALUE, r.readString(stringSize));
+			}
+			assertEquals(enc.length, r.getOffset());
+			try {
+				r.readILInt();
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+		}
+
+		// Limited
+		ILCompositeTagDataReader r = new ILCompositeTagDataReader(split(enc, 64));
+		r.pushLimit(1);
+		try {
+			r.readShort();
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+	}
+
+	@Test
+	public void testReadSlice() throws Exception {
+		byte[] src = createSampleByteArray(16);
+
+		// View
+		ILCompositeTagDataReader r = new ILCompositeTagDataReader(split(src, 8));
+		r.skip(2);
+		ByteBuffer v = r.readSlice(4);
+		assertTrue(v.isReadOnly());
+		assertEquals(0x02030405, v.getInt(0));
+		src[2] = 0;
+		assertEquals(0, v.get(0));
+		src[2] = 2;
+
+		// Crossing fragments
+		v = r.readSlice(4);
+		assertEquals(10, r.getOffset());
+		assertEquals(0x06070809, v.getInt(0));
+		try {
+			r.readSlice(7);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+	}
+
+	@Test
+	public void testSkipCore() throws Exception {
+
+		for (int fragmentSize = 1; fragmentSize < 20; fragmentSize++) {
+			ILCompositeTagDataReader r = new ILCompositeTagDataReader(split(createSampleByteArray(256), fragmentSize));
+			assertEquals(0, r.readByte());
+			r.skip(10);
+			assertEquals(11, r.readByte());
+			r.skip(243);
+			assertEquals((byte) 0xFF, r.readByte());
+			r.skip(0);
+			try {
+				r.skip(1);
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+		}
+	}
+}
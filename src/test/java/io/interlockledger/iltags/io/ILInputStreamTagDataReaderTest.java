@@ -120,6 +120,23 @@ public class ILInputStreamTagDataReaderTest {
 		}
 	}
 
+	@Test
+	public void testReset() throws Exception {
+		TestInputStream in = new TestInputStream(createSample(4));
+
+		try (ILInputStreamTagDataReader r = new ILInputStreamTagDataReader(in)) {
+			r.skip(2);
+			r.pushLimit(1);
+			InputStream in2 = createSample(4);
+			r.reset(in2);
+			assertSame(in2, r.in);
+			assertFalse(in.isCloseUsed());
+			assertEquals(0, r.getOffset());
+			assertFalse(r.isLimited());
+			assertEquals(0x00010203, r.readInt());
+		}
+	}
+
 	@Test
 	public void testSkipCore() throws Exception {
 
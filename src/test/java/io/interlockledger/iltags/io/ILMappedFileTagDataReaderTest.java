@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import static io.interlockledger.iltags.TestUtils.createSampleByteArray;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.interlockledger.iltags.ILStringTag;
+import io.interlockledger.iltags.ILTag;
+import io.interlockledger.iltags.ILTagFactory;
+
+public class ILMappedFileTagDataReaderTest {
+
+	private static final long[] ILINT_VALUES = { 0, 247, 248, 0xFFFF + 248, 0xFFFFFFFFl + 248, Long.MAX_VALUE,
+			Long.MIN_VALUE };
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File createFile(byte[] data) throws IOException {
+		File f = folder.newFile();
+		Files.write(f.toPath(), data);
+		return f;
+	}
+
+	private ILMappedFileTagDataReader open(File f, int segmentSize) throws IOException {
+		return new ILMappedFileTagDataReader(FileChannel.open(f.toPath(), StandardOpenOption.READ), segmentSize);
+	}
+
+	@Test
+	public void testClose() throws Exception {
+		File f = createFile(createSampleByteArray(16));
+		FileChannel channel = FileChannel.open(f.toPath(), StandardOpenOption.READ);
+
+		ILMappedFileTagDataReader r = new ILMappedFileTagDataReader(channel);
+		r.readByte();
+		r.close();
+		assertFalse(channel.isOpen());
+	}
+
+	@Test
+	public void testDeserialize() throws Exception {
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		for (int i = 0; i < 100; i++) {
+			ILStringTag t = new ILStringTag();
+			t.setValue("Tag #" + i);
+			t.serialize(w);
+		}
+		File f = createFile(w.toByteArray());
+
+		for (int segmentSize = 16; segmentSize < 64; segmentSize += 5) {
+			try (ILMappedFileTagDataReader r = open(f, segmentSize)) {
+				ILTagFactory factory = new ILTagFactory();
+				int i = 0;
+				while (r.getOffset() < r.getSize()) {
+					ILTag t = factory.deserialize(r);
+					assertEquals("Tag #" + i, ((ILStringTag) t).getValue());
+					i++;
+				}
+				assertEquals(100, i);
+			}
+		}
+	}
+
+	@Test
+	public void testILMappedFileTagDataReader() throws Exception {
+		File f = createFile(createSampleByteArray(16));
+
+		try (ILMappedFileTagDataReader r = new ILMappedFileTagDataReader(f.toPath())) {
+			assertEquals(ILMappedFileTagDataReader.DEFAULT_SEGMENT_SIZE, r.getSegmentSize());
+			assertEquals(16, r.getSize());
+		}
+		try (ILMappedFileTagDataReader r = open(f, ILMappedFileTagDataReader.MIN_SEGMENT_SIZE)) {
+			assertEquals(ILMappedFileTagDataReader.MIN_SEGMENT_SIZE, r.getSegmentSize());
+		}
+		try (FileChannel channel = FileChannel.open(f.toPath(), StandardOpenOption.READ)) {
+			new ILMappedFileTagDataReader(channel, ILMappedFileTagDataReader.MIN_SEGMENT_SIZE - 1);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	@Test
+	public void testReadBytesCore() throws Exception {
+		File f = createFile(createSampleByteArray(100));
+
+		for (int chunk = 1; chunk < 40; chunk += 3) {
+			try (ILMappedFileTagDataReader r = open(f, 16)) {
+				byte[] v = new byte[100];
+				for (int off = 0; off < v.length; off += chunk) {
+					r.readBytes(v, off, Math.min(chunk, v.length - off));
+				}
+				assertArrayEquals(createSampleByteArray(100), v);
+				try {
+					r.readByte();
+					fail();
+				} catch (ILTagNotEnoughDataException e) {
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testReadPrimitives() throws Exception {
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		for (int i = 0; i < 10; i++) {
+			w.writeByte((byte) 0xFA);
+			w.writeShort((short) 0xFEDC);
+			w.writeInt(0xFEDCBA98);
+			w.writeLong(0xFEDCBA9876543210l);
+			w.writeFloat(1.5f);
+			w.writeDouble(-2.25);
+			for (long v : ILINT_VALUES) {
+				w.writeILInt(v);
+			}
+		}
+		byte[] enc = w.toByteArray();
+		File f = createFile(enc);
+
+		for (int segmentSize = 16; segmentSize < 48; segmentSize++) {
+			try (ILMappedFileTagDataReader r = open(f, segmentSize)) {
+				for (int i = 0; i < 10; i++) {
+					assertEquals((byte) 0xFA, r.readByte());
+					assertEquals((short) 0xFEDC, r.readShort());
+					assertEquals(0xFEDCBA98, r.readInt());
+					assertEquals(0xFEDCBA9876543210l, r.readLong());
+					assertEquals(1.5f, r.readFloat(), 0.0f);
+					assertEquals(-2.25, r.readDouble(), 0.0);
+					for (long v : ILINT_VALUES) {
+						assertEquals(v, r.readILInt());
+					}
+				}
+				assertEquals(enc.length, r.getOffset());
+				try {
+					r.readILInt();
+					fail();
+				} catch (ILTagNotEnoughDataException e) {
+				}
+			}
+		}
+
+		// Limited
+		try (ILMappedFileTagDataReader r = open(f, 16)) {
+			r.pushLimit(1);
+			try {
+				r.readShort();
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testReadSlice() throws Exception {
+		File f = createFile(createSampleByteArray(64));
+
+		try (ILMappedFileTagDataReader r = open(f, 16)) {
+			r.skip(2);
+			ByteBuffer v = r.readSlice(4);
+			assertTrue(v.isReadOnly());
+			assertEquals(0x02030405, v.getInt(0));
+
+			// Crossing segments
+			v = r.readSlice(20);
+			assertEquals(26, r.getOffset());
+			assertEquals(20, v.remaining());
+			assertEquals(6, v.get(0));
+			assertEquals(25, v.get(19));
+			try {
+				r.readSlice(39);
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testSkipCore() throws Exception {
+		File f = createFile(createSampleByteArray(256));
+
+		try (ILMappedFileTagDataReader r = open(f, 16)) {
+			assertEquals(0, r.readByte());
+			r.skip(10);
+			assertEquals(11, r.readByte());
+			r.skip(100);
+			assertEquals(112, r.readByte());
+			r.skip(142);
+			assertEquals((byte) 0xFF, r.readByte());
+			r.skip(0);
+			try {
+				r.readByte();
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+		}
+		try (ILMappedFileTagDataReader r = open(f, 16)) {
+			r.skip(256);
+			assertEquals(256, r.getOffset());
+		}
+	}
+
+	@Test(expected = ILTagNotEnoughDataException.class)
+	public void testSkipCoreFail() throws Exception {
+		File f = createFile(createSampleByteArray(256));
+
+		try (ILMappedFileTagDataReader r = open(f, 16)) {
+			r.readByte();
+			r.skip(256);
+		}
+	}
+}
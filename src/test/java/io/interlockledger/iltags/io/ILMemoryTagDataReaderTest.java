@@ -19,12 +19,16 @@ import static io.interlockledger.iltags.TestUtils.createSampleByteArray;
 import static io.interlockledger.iltags.TestUtils.fillSampleByteArray;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.nio.ByteBuffer;
 
 import org.junit.Test;
 
+import io.interlockledger.iltags.ILTagException;
+
 public class ILMemoryTagDataReaderTest {
 
 	@Test
@@ -105,6 +109,181 @@ public class ILMemoryTagDataReaderTest {
 		assertArrayEquals(createSampleByteArray(32), v);
 	}
 
+	@Test
+	public void testReadILInt() throws Exception {
+		long[] values = { 0, 247, 248, 0xFFFF + 248, 0xFFFFFFFFl + 248, Long.MAX_VALUE, Long.MIN_VALUE };
+
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		for (long v : values) {
+			w.writeILInt(v);
+		}
+		byte[] enc = w.toByteArray();
+
+		// Heap
+		ILMemoryTagDataReader r = new ILMemoryTagDataReader(enc);
+		for (long v : values) {
+			assertEquals(v, r.readILInt());
+		}
+		assertEquals(enc.length, r.getOffset());
+
+		// Direct
+		ByteBuffer b = ByteBuffer.allocateDirect(enc.length);
+		b.put(enc);
+		b.rewind();
+		r = new ILMemoryTagDataReader(b);
+		for (long v : values) {
+			assertEquals(v, r.readILInt());
+		}
+		assertEquals(enc.length, r.getOffset());
+
+		// Truncated
+		for (int size = 0; size < enc.length; size++) {
+			r = new ILMemoryTagDataReader(enc, 0, size);
+			try {
+				for (int i = 0; i < values.length; i++) {
+					r.readILInt();
+				}
+				fail();
+			} catch (ILTagNotEnoughDataException e) {
+			}
+		}
+
+		// Limited
+		r = new ILMemoryTagDataReader(enc);
+		r.skip(2);
+		r.pushLimit(1);
+		try {
+			r.readILInt();
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+	}
+
+	@Test
+	public void testReadSlice() throws Exception {
+		byte[] src = createSampleByteArray(16);
+		ILMemoryTagDataReader r = new ILMemoryTagDataReader(src, 1, 15);
+
+		r.skip(2);
+		ByteBuffer v = r.readSlice(4);
+		assertEquals(6, r.getOffset());
+		assertTrue(v.isReadOnly());
+		assertEquals(0, v.position());
+		assertEquals(4, v.limit());
+		assertEquals(0x03040506, v.getInt(0));
+		// It is a view
+		src[3] = 0;
+		assertEquals(0, v.get(0));
+		assertEquals(7, r.readByte());
+
+		r.pushLimit(4);
+		try {
+			r.readSlice(5);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+		r.popLimit(false);
+		try {
+			r.readSlice(9);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+		try {
+			r.readSlice(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	@Test
+	public void testReadString() throws Exception {
+		String[] samples = { "", "abc", "ção", "€1", "😀!" };
+
+		for (String s : samples) {
+			byte[] enc = s.getBytes(UTF8Utils.UTF8);
+			byte[] src = new byte[enc.length + 2];
+			System.arraycopy(enc, 0, src, 1, enc.length);
+
+			// Heap
+			ILMemoryTagDataReader r = new ILMemoryTagDataReader(src, 1, enc.length);
+			assertEquals(s, r.readString(enc.length));
+			assertEquals(enc.length, r.getOffset());
+			r = new ILMemoryTagDataReader(src, 1, enc.length);
+			StringBuilder sb = new StringBuilder();
+			assertEquals(s.length(), r.readString(enc.length, sb));
+			assertEquals(s, sb.toString());
+
+			// Direct
+			ByteBuffer b = ByteBuffer.allocateDirect(enc.length);
+			b.put(enc);
+			b.rewind();
+			r = new ILMemoryTagDataReader(b);
+			assertEquals(s, r.readString(enc.length));
+		}
+
+		// Truncated character
+		byte[] enc = "€".getBytes(UTF8Utils.UTF8);
+		ILMemoryTagDataReader r = new ILMemoryTagDataReader(enc);
+		try {
+			r.readString(2);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+
+		// Not enough data
+		r = new ILMemoryTagDataReader(enc);
+		try {
+			r.readString(4);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+
+		// Invalid character
+		r = new ILMemoryTagDataReader(new byte[] { (byte) 0xFF });
+		try {
+			r.readString(1);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+			fail();
+		} catch (ILTagException e) {
+		}
+	}
+
+	@Test
+	public void testReset() throws Exception {
+		byte[] src = createSampleByteArray(16);
+		ILMemoryTagDataReader r = new ILMemoryTagDataReader(src);
+
+		r.skip(4);
+		r.pushLimit(2);
+		r.reset(src, 1, 4);
+		assertEquals(0, r.getOffset());
+		assertFalse(r.isLimited());
+		byte[] v = new byte[4];
+		r.readBytes(v);
+		assertArrayEquals(new byte[] { 1, 2, 3, 4 }, v);
+		try {
+			r.readByte();
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+		try {
+			r.reset(src, 10, 7);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+		}
+
+		byte[] src2 = createSampleByteArray(8);
+		r.reset(src2);
+		r.skip(7);
+		assertEquals(7, r.readByte());
+
+		ByteBuffer b = ByteBuffer.wrap(src, 8, 8);
+		r.reset(b);
+		assertEquals(8, r.readByte());
+		assertEquals(8, b.position());
+	}
+
 	@Test
 	public void testReadByteCore() throws Exception {
 
@@ -164,6 +343,52 @@ public class ILMemoryTagDataReaderTest {
 		}
 	}
 
+	@Test
+	public void testSkipILInt() throws Exception {
+		long[] values = { 0, 247, 248, 0xFFFF + 248, 0xFFFFFFFFl + 248, Long.MAX_VALUE, Long.MIN_VALUE };
+
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		for (long v : values) {
+			w.writeILInt(v);
+		}
+		w.writeByte((byte) 0x55);
+		byte[] enc = w.toByteArray();
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(enc.length);
+		direct.put(enc);
+		direct.rewind();
+		for (int n = 0; n <= values.length; n++) {
+			for (ILMemoryTagDataReader r : new ILMemoryTagDataReader[] { new ILMemoryTagDataReader(enc),
+					new ILMemoryTagDataReader(direct) }) {
+				r.skipILInt(n);
+				if (n < values.length) {
+					assertEquals(values[n], r.readILInt());
+				} else {
+					assertEquals(enc.length - 1, r.getOffset());
+					assertEquals(0x55, r.readByte());
+				}
+			}
+		}
+
+		// Truncated data
+		ILMemoryTagDataReader r = new ILMemoryTagDataReader(enc, 0, enc.length - 2);
+		try {
+			r.skipILInt(values.length);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+
+		// Limited
+		r = new ILMemoryTagDataReader(enc);
+		r.pushLimit(enc.length - 2);
+		try {
+			r.skipILInt(values.length);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+		assertEquals(0, r.getOffset());
+	}
+
 	@Test(expected = ILTagNotEnoughDataException.class)
 	public void testSkipCoreFail() throws Exception {
 		ILMemoryTagDataReader r = new ILMemoryTagDataReader(createSampleByteArray(16));
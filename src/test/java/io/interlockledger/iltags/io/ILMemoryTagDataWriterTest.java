@@ -33,6 +33,19 @@ public class ILMemoryTagDataWriterTest {
 		assertArrayEquals(new byte[0], w.toByteArray());
 	}
 
+	@Test
+	public void testReset() throws Exception {
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+
+		w.writeInt(0x01020304);
+		w.reset();
+		assertEquals(0, w.getOffset());
+		assertEquals(0, w.toByteArray().length);
+		w.writeShort((short) 0x0506);
+		assertEquals(2, w.getOffset());
+		assertArrayEquals(new byte[] { 5, 6 }, w.toByteArray());
+	}
+
 	@Test
 	public void testToByteArray() throws Exception {
 		Random r = new Random();
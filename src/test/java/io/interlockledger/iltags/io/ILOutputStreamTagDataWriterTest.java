@@ -82,6 +82,23 @@ public class ILOutputStreamTagDataWriterTest {
 		}
 	}
 
+	@Test
+	public void testReset() throws Exception {
+		ByteArrayOutputStream out1 = new ByteArrayOutputStream();
+		ByteArrayOutputStream out2 = new ByteArrayOutputStream();
+
+		try (ILOutputStreamTagDataWriter w = new ILOutputStreamTagDataWriter(out1)) {
+			w.writeInt(0x01020304);
+			w.reset(out2);
+			assertSame(out2, w.out);
+			assertEquals(0, w.getOffset());
+			w.writeShort((short) 0x0506);
+			assertEquals(2, w.getOffset());
+		}
+		assertArrayEquals(new byte[] { 1, 2, 3, 4 }, out1.toByteArray());
+		assertArrayEquals(new byte[] { 5, 6 }, out2.toByteArray());
+	}
+
 	@Test
 	public void testWriteByteCore() throws Exception {
 		ByteArrayOutputStream out = new ByteArrayOutputStream();
@@ -107,6 +124,26 @@ public class ILOutputStreamTagDataWriterTest {
 		w.close();
 	}
 
+	@Test
+	public void testWriteByteCoreFailCause() throws Exception {
+		TestOutputStream out = new TestOutputStream(new ByteArrayOutputStream());
+		ILOutputStreamTagDataWriter w = new ILOutputStreamTagDataWriter(out);
+
+		out.setForError(true);
+		try {
+			w.writeByteCore((byte) 0);
+			fail();
+		} catch (ILTagException e) {
+			assertTrue(e.getCause() instanceof IOException);
+		}
+		try {
+			w.writeBytesCore(new byte[1], 0, 1);
+			fail();
+		} catch (ILTagException e) {
+			assertTrue(e.getCause() instanceof IOException);
+		}
+	}
+
 	@Test
 	public void testWriteBytesCore() throws Exception {
 		Random r = new Random();
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import static io.interlockledger.iltags.TestUtils.createSampleByteArray;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import io.interlockledger.iltags.ILTagException;
+
+public class ILTagDataReaderTest {
+
+	/**
+	 * Minimal implementation that relies on the default methods.
+	 */
+	private static class MinimalReader implements ILTagDataReader {
+
+		private final ILTagDataReader in;
+
+		public MinimalReader(byte[] data) {
+			this.in = new ILByteArrayTagDataReader(data);
+		}
+
+		@Override
+		public long getOffset() {
+			return in.getOffset();
+		}
+
+		@Override
+		public long getRemaining() {
+			return in.getRemaining();
+		}
+
+		@Override
+		public boolean isLimited() {
+			return in.isLimited();
+		}
+
+		@Override
+		public void popLimit(boolean checkRemaining) throws ILTagException {
+			in.popLimit(checkRemaining);
+		}
+
+		@Override
+		public void pushLimit(long size) {
+			in.pushLimit(size);
+		}
+
+		@Override
+		public byte readByte() throws ILTagException {
+			return in.readByte();
+		}
+
+		@Override
+		public void readBytes(byte[] v) throws ILTagException {
+			in.readBytes(v);
+		}
+
+		@Override
+		public void readBytes(byte[] v, int off, int size) throws ILTagException {
+			in.readBytes(v, off, size);
+		}
+
+		@Override
+		public double readDouble() throws ILTagException {
+			return in.readDouble();
+		}
+
+		@Override
+		public float readFloat() throws ILTagException {
+			return in.readFloat();
+		}
+
+		@Override
+		public long readILInt() throws ILTagException {
+			return in.readILInt();
+		}
+
+		@Override
+		public int readInt() throws ILTagException {
+			return in.readInt();
+		}
+
+		@Override
+		public long readLong() throws ILTagException {
+			return in.readLong();
+		}
+
+		@Override
+		public short readShort() throws ILTagException {
+			return in.readShort();
+		}
+
+		@Override
+		public String readString(long n) throws ILTagException {
+			return in.readString(n);
+		}
+
+		@Override
+		public long readString(long n, Appendable v) throws ILTagException {
+			return in.readString(n, v);
+		}
+
+		@Override
+		public void skip(long n) throws ILTagException {
+			in.skip(n);
+		}
+	}
+
+	@Test
+	public void testReadSlice() throws Exception {
+		MinimalReader r = new MinimalReader(createSampleByteArray(16));
+
+		r.skip(2);
+		ByteBuffer v = r.readSlice(4);
+		assertTrue(v.isReadOnly());
+		assertEquals(0, v.position());
+		assertEquals(4, v.limit());
+		assertEquals(0x02030405, v.getInt());
+		assertEquals(6, r.getOffset());
+
+		r.pushLimit(2);
+		try {
+			r.readSlice(3);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+		r.popLimit(false);
+		try {
+			r.readSlice(11);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+		try {
+			r.readSlice(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+		try {
+			r.readSlice(Integer.MAX_VALUE + 1l);
+			fail();
+		} catch (ILTagException e) {
+		}
+	}
+
+	@Test
+	public void testSkipILInt() throws Exception {
+		ILMemoryTagDataWriter w = new ILMemoryTagDataWriter();
+		w.writeILInt(1);
+		w.writeILInt(248);
+		w.writeILInt(Long.MAX_VALUE);
+		w.writeILInt(2);
+		MinimalReader r = new MinimalReader(w.toByteArray());
+
+		r.skipILInt(0);
+		assertEquals(0, r.getOffset());
+		r.skipILInt(3);
+		assertEquals(2, r.readILInt());
+		try {
+			r.skipILInt(1);
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+		try {
+			r.skipILInt(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import static io.interlockledger.iltags.TestUtils.createSampleByteArray;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+public class ILTagDataThreadCacheTest {
+
+	@Test
+	public void testGetReaderByteArray() throws Exception {
+		byte[] src = createSampleByteArray(16);
+
+		ILByteArrayTagDataReader r = ILTagDataThreadCache.getReader(src);
+		assertEquals(0, r.readByte());
+		r.pushLimit(4);
+		ILByteArrayTagDataReader r2 = ILTagDataThreadCache.getReader(src);
+		assertSame(r, r2);
+		assertEquals(0, r2.getOffset());
+		assertFalse(r2.isLimited());
+		assertEquals(0, r2.readByte());
+	}
+
+	@Test
+	public void testGetReaderByteArrayIntInt() throws Exception {
+		byte[] src = createSampleByteArray(16);
+
+		ILByteArrayTagDataReader r = ILTagDataThreadCache.getReader(src, 4, 4);
+		assertEquals(0x04050607, r.readInt());
+		try {
+			r.readByte();
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+
+		// Other threads have their own instances
+		final AtomicReference<ILByteArrayTagDataReader> other = new AtomicReference<>();
+		Thread t = new Thread() {
+			@Override
+			public void run() {
+				other.set(ILTagDataThreadCache.getReader(src, 0, 1));
+			}
+		};
+		t.start();
+		t.join();
+		assertNotSame(r, other.get());
+	}
+
+	@Test
+	public void testGetWriter() throws Exception {
+
+		ILByteArrayTagDataWriter w = ILTagDataThreadCache.getWriter();
+		w.writeInt(1);
+		ILByteArrayTagDataWriter w2 = ILTagDataThreadCache.getWriter();
+		assertSame(w, w2);
+		assertEquals(0, w2.getOffset());
+		w2.writeByte((byte) 2);
+		assertArrayEquals(new byte[] { 2 }, w2.toByteArray());
+
+		// Oversized writers are dropped
+		w2.writeBytes(new byte[ILTagDataThreadCache.MAX_RETAINED_CAPACITY + 1]);
+		assertTrue(w2.getCapacity() > ILTagDataThreadCache.MAX_RETAINED_CAPACITY);
+		ILByteArrayTagDataWriter w3 = ILTagDataThreadCache.getWriter();
+		assertNotSame(w2, w3);
+		assertEquals(ILByteArrayTagDataWriter.DEFAULT_INITIAL_CAPACITY, w3.getCapacity());
+		assertEquals(0, w3.getOffset());
+		assertSame(w3, ILTagDataThreadCache.getWriter());
+	}
+
+	@Test
+	public void testRelease() throws Exception {
+		byte[] src = createSampleByteArray(16);
+
+		ILByteArrayTagDataReader r = ILTagDataThreadCache.getReader(src);
+		ILTagDataThreadCache.release();
+		try {
+			r.readByte();
+			fail();
+		} catch (ILTagNotEnoughDataException e) {
+		}
+		assertSame(r, ILTagDataThreadCache.getReader(src));
+	}
+}
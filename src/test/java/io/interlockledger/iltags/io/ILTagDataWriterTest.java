@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 InterlockLedger Network
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.interlockledger.iltags.io;
+
+import static io.interlockledger.iltags.TestUtils.createSampleByteArray;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import io.interlockledger.iltags.ILTagException;
+
+public class ILTagDataWriterTest {
+
+	/**
+	 * Minimal implementation that relies on the default methods.
+	 */
+	private static class MinimalWriter implements ILTagDataWriter {
+
+		private final ILMemoryTagDataWriter out = new ILMemoryTagDataWriter();
+
+		@Override
+		public long getOffset() {
+			return out.getOffset();
+		}
+
+		public byte[] toByteArray() {
+			return out.toByteArray();
+		}
+
+		@Override
+		public void writeByte(byte v) throws ILTagException {
+			out.writeByte(v);
+		}
+
+		@Override
+		public void writeBytes(byte[] v) throws ILTagException {
+			out.writeBytes(v);
+		}
+
+		@Override
+		public void writeBytes(byte[] v, int off, int size) throws ILTagException {
+			out.writeBytes(v, off, size);
+		}
+
+		@Override
+		public void writeDouble(double v) throws ILTagException {
+			out.writeDouble(v);
+		}
+
+		@Override
+		public void writeFloat(float v) throws ILTagException {
+			out.writeFloat(v);
+		}
+
+		@Override
+		public void writeILInt(long v) throws ILTagException {
+			out.writeILInt(v);
+		}
+
+		@Override
+		public void writeInt(int v) throws ILTagException {
+			out.writeInt(v);
+		}
+
+		@Override
+		public void writeLong(long v) throws ILTagException {
+			out.writeLong(v);
+		}
+
+		@Override
+		public void writeShort(short v) throws ILTagException {
+			out.writeShort(v);
+		}
+
+		@Override
+		public void writeString(CharSequence v) throws ILTagException {
+			out.writeString(v);
+		}
+	}
+
+	@Test
+	public void testWriteBytesByteBuffer() throws Exception {
+		byte[] sample = createSampleByteArray(20000);
+
+		for (ByteBuffer b : new ByteBuffer[] { ByteBuffer.allocate(sample.length),
+				ByteBuffer.allocateDirect(sample.length) }) {
+			b.put(sample);
+			b.position(1);
+			MinimalWriter w = new MinimalWriter();
+			w.writeBytes(b);
+			assertEquals(sample.length, b.position());
+			assertEquals(sample.length - 1, w.getOffset());
+			byte[] expected = new byte[sample.length - 1];
+			System.arraycopy(sample, 1, expected, 0, expected.length);
+			assertArrayEquals(expected, w.toByteArray());
+
+			// Empty
+			w.writeBytes(b);
+			assertEquals(sample.length - 1, w.getOffset());
+		}
+	}
+}
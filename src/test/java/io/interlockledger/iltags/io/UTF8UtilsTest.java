@@ -20,6 +20,7 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.CharsetDecoder;
@@ -38,6 +39,99 @@ public class UTF8UtilsTest {
 			{ (byte) 0xE0, (byte) 0xA4, (byte) 0xB9 }, { (byte) 0xE2, (byte) 0x82, (byte) 0xAC },
 			{ (byte) 0xF0, (byte) 0x90, (byte) 0x8D, (byte) 0x88 } };
 
+	/**
+	 * Reference implementation based on the per-character decoding.
+	 */
+	private static String decodeReference(byte[] src) {
+		StringBuilder sb = new StringBuilder();
+		byte[] b = new byte[4];
+		int p = 0;
+		while (p < src.length) {
+			int size = UTF8Utils.getUTF8EncodedCharSize(src[p]);
+			System.arraycopy(src, p, b, 0, size);
+			sb.appendCodePoint(UTF8Utils.toCodepoint(b, size));
+			p += size;
+		}
+		return sb.toString();
+	}
+
+	@Test
+	public void testDecodeByteArrayIntInt() throws Exception {
+
+		for (int size = 0; size < 256; size++) {
+			String s = genRandomString(size);
+			byte[] enc = s.getBytes(UTF8Utils.UTF8);
+			byte[] src = new byte[enc.length + 3];
+			System.arraycopy(enc, 0, src, 2, enc.length);
+			assertEquals(s, UTF8Utils.decode(src, 2, enc.length));
+		}
+
+		// Lenient sequences accepted by the per-character decoding
+		byte[][] lenient = { { (byte) 0xC0, (byte) 0x80 }, { (byte) 0xED, (byte) 0xA0, (byte) 0x80 },
+				{ (byte) 0x80, (byte) 0x80 }, WIKI_CODEPOINTS_UTF8[4] };
+		for (byte[] src : lenient) {
+			assertEquals(decodeReference(src), UTF8Utils.decode(src, 0, src.length));
+		}
+	}
+
+	@Test
+	public void testDecodeByteArrayIntIntAppendable() throws Exception {
+		String s = genRandomString(100);
+		byte[] enc = s.getBytes(UTF8Utils.UTF8);
+
+		StringBuilder sb = new StringBuilder("x");
+		assertEquals(s.length(), UTF8Utils.decode(enc, 0, enc.length, sb));
+		assertEquals("x" + s, sb.toString());
+
+		// Not a StringBuilder
+		CharBuffer cb = CharBuffer.allocate(enc.length);
+		assertEquals(s.length(), UTF8Utils.decode(enc, 0, enc.length, cb));
+		cb.flip();
+		assertEquals(s, cb.toString());
+	}
+
+	@Test
+	public void testDecodeByteArrayIntIntCharArrayInt() throws Exception {
+
+		for (int i = 0; i < WIKI_CODEPOINTS.length; i++) {
+			byte[] src = WIKI_CODEPOINTS_UTF8[i];
+			char[] dst = new char[src.length + 1];
+			int count = UTF8Utils.decode(src, 0, src.length, dst, 1);
+			assertEquals(Character.charCount(WIKI_CODEPOINTS[i]), count);
+			assertEquals(WIKI_CODEPOINTS[i], Character.codePointAt(dst, 1));
+		}
+
+		// Invalid first byte
+		byte[] src = { 'a', (byte) 0xF8 };
+		try {
+			UTF8Utils.decode(src, 0, src.length, new char[2], 0);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+		// Invalid continuation
+		src = new byte[] { (byte) 0xC2, 'a' };
+		try {
+			UTF8Utils.decode(src, 0, src.length, new char[2], 0);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+		// Invalid codepoint
+		src = new byte[] { (byte) 0xF7, (byte) 0xBF, (byte) 0xBF, (byte) 0xBF };
+		try {
+			UTF8Utils.decode(src, 0, src.length, new char[4], 0);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+		// Incomplete
+		for (int len = 1; len < 4; len++) {
+			try {
+				UTF8Utils.decode(WIKI_CODEPOINTS_UTF8[4], 0, len, new char[4], 0);
+				fail();
+			} catch (BufferUnderflowException e) {
+			}
+		}
+	}
+
 	@Test
 	public void testGetEncodedSize() throws Exception {
 